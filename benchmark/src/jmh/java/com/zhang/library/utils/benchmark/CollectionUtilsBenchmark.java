@@ -0,0 +1,50 @@
+package com.zhang.library.utils.benchmark;
+
+import com.zhang.library.utils.CollectionUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CollectionUtils}的基准测试
+ *
+ * @author ZhangXiaoMing 2026-10-18 19:55 周日
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectionUtilsBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private List<Integer> mList;
+
+    @Setup
+    public void setup() {
+        mList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            mList.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<List<Integer>> splitList() {
+        return CollectionUtils.splitList(mList, 20);
+    }
+
+    @Benchmark
+    public List<Integer> copyList() {
+        return CollectionUtils.copyList(mList, 0, size - 1);
+    }
+}
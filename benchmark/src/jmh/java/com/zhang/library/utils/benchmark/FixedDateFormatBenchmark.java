@@ -0,0 +1,71 @@
+package com.zhang.library.utils.benchmark;
+
+import com.zhang.library.utils.TimeUtils;
+import com.zhang.library.utils.time.FixedDateFormat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FixedDateFormat}和{@link SimpleDateFormat}的对比
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FixedDateFormatBenchmark {
+
+    private static final String TEXT = "2026-10-18 23:59:00";
+
+    private final SimpleDateFormat mSimpleFormat = new SimpleDateFormat(TimeUtils.DATE_FORMAT_DEFAULT, Locale.US);
+    private final FixedDateFormat mFixedFormat = new FixedDateFormat(TimeUtils.DATE_FORMAT_DEFAULT);
+
+    private final char[] mChars = new char[mFixedFormat.length()];
+    private final StringBuilder mBuilder = new StringBuilder(32);
+
+    private long mTimestamp = 1760000000000L;
+
+    @Benchmark
+    public String formatSimple() {
+        return mSimpleFormat.format(new Date(mTimestamp += 1000));
+    }
+
+    @Benchmark
+    public String formatFixed() {
+        return mFixedFormat.format(mTimestamp += 1000);
+    }
+
+    @Benchmark
+    public char[] formatFixedToChars() {
+        mFixedFormat.format(mTimestamp += 1000, mChars, 0);
+        return mChars;
+    }
+
+    @Benchmark
+    public StringBuilder formatFixedToBuilder() {
+        mBuilder.setLength(0);
+        mFixedFormat.format(mTimestamp += 1000, mBuilder);
+        return mBuilder;
+    }
+
+    @Benchmark
+    public long parseSimple() throws ParseException {
+        return mSimpleFormat.parse(TEXT).getTime();
+    }
+
+    @Benchmark
+    public long parseFixed() {
+        return mFixedFormat.parse(TEXT);
+    }
+}
@@ -0,0 +1,351 @@
+package com.zhang.library.utils.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.zhang.library.utils.JsonUtils;
+import com.zhang.library.utils.json.JsonArrayIterator;
+import com.zhang.library.utils.json.FastJsonAdapterFactory;
+import com.zhang.library.utils.json.JsonArrayWriter;
+import com.zhang.library.utils.json.annotation.FastJson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonUtils}的基准测试
+ *
+ * @author ZhangXiaoMing 2026-10-18 19:45 周日
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonUtilsBenchmark {
+
+    private static final Type USER_LIST_TYPE = new TypeToken<List<User>>() {
+    }.getType();
+    private static final Type DATE_LIST_TYPE = new TypeToken<List<Date>>() {
+    }.getType();
+    private static final Type FAST_USER_LIST_TYPE = new TypeToken<List<FastUser>>() {
+    }.getType();
+
+    private User mUser;
+    private FastUser mFastUser;
+    private String mUserJson;
+    private Map<String, Object> mUserMap;
+    /** 接口返回的分页数据解析成的Map */
+    private Map<String, Object> mPageMap;
+    private String mPageJson;
+    private Page mPage;
+    private byte[] mPageBytes;
+    /** 1000个元素的数组 */
+    private String mArrayJson;
+    private List<User> mUsers;
+    /** 3个元素的数组，解析耗时中类型查找的占比较大 */
+    private String mSmallArrayJson;
+    /** 1000个日期的数组 */
+    private String mDatesJson;
+    /** Gson自带的日期解析，格式化和解析时加锁 */
+    private Gson mLockedDateGson;
+
+    @Setup
+    public void setup() {
+        mUser = User.create(1);
+        mUserJson = JsonUtils.toJson(mUser);
+        mFastUser = JsonUtils.fromJson(mUserJson, FastUser.class);
+
+        mUserMap = new LinkedHashMap<>();
+        mUserMap.put("id", mUser.id);
+        mUserMap.put("name", mUser.name);
+        mUserMap.put("score", mUser.score);
+        mUserMap.put("vip", mUser.vip);
+        mUserMap.put("tags", mUser.tags);
+
+        Page page = new Page();
+        page.page = 1;
+        page.users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            page.users.add(User.create(i));
+        }
+        mPageJson = JsonUtils.toJson(page);
+        mPage = page;
+        mPageBytes = JsonUtils.toBytes(page);
+        mPageMap = JsonUtils.fromJson(mPageJson, Map.class);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(User.create(i));
+        }
+        mArrayJson = JsonUtils.toJson(users);
+        mUsers = users;
+        mSmallArrayJson = JsonUtils.toJson(users.subList(0, 3));
+
+        List<Date> dates = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            dates.add(new Date(1760000000000L + i * 3600_000L));
+        }
+        mDatesJson = JsonUtils.toJson(dates);
+        mLockedDateGson = new GsonBuilder().setDateFormat("yyyy-MM-dd HH:mm:ss").create();
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(mUser);
+    }
+
+    @Benchmark
+    public User fromJson() {
+        return JsonUtils.fromJson(mUserJson, User.class);
+    }
+
+    @Benchmark
+    public String toJsonFast() {
+        return JsonUtils.toJson(mFastUser);
+    }
+
+    @Benchmark
+    public FastUser fromJsonFast() {
+        return JsonUtils.fromJson(mUserJson, FastUser.class);
+    }
+
+    /** 首次解析：新建Gson，包含查找和创建解析器的耗时 */
+    @Benchmark
+    public User fromJsonFirstTime() {
+        Gson gson = new GsonBuilder()
+                .setDateFormat("yyyy-MM-dd HH:mm:ss")
+                .registerTypeAdapterFactory(new FastJsonAdapterFactory())
+                .create();
+        return gson.fromJson(mUserJson, User.class);
+    }
+
+    @Benchmark
+    public FastUser fromJsonFirstTimeFast() {
+        Gson gson = new GsonBuilder()
+                .setDateFormat("yyyy-MM-dd HH:mm:ss")
+                .registerTypeAdapterFactory(new FastJsonAdapterFactory())
+                .create();
+        return gson.fromJson(mUserJson, FastUser.class);
+    }
+
+    @Benchmark
+    public User fromMap() {
+        return JsonUtils.fromMap(mUserMap, User.class);
+    }
+
+    @Benchmark
+    public long fromJsonArray() {
+        List<User> users = JsonUtils.fromJson(mArrayJson, USER_LIST_TYPE);
+        long sum = 0;
+        for (User user : users) {
+            sum += user.id;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fromJsonArrayFast() {
+        List<FastUser> users = JsonUtils.fromJson(mArrayJson, FAST_USER_LIST_TYPE);
+        long sum = 0;
+        for (FastUser user : users) {
+            sum += user.id;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Date> fromJsonDates() {
+        return JsonUtils.fromJson(mDatesJson, DATE_LIST_TYPE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Date> fromJsonDatesLocked() {
+        return mLockedDateGson.fromJson(mDatesJson, DATE_LIST_TYPE);
+    }
+
+    @Benchmark
+    public long iterateArray() {
+        JsonArrayIterator<User> iterator = JsonUtils.iterateArray(new StringReader(mArrayJson), User.class);
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.next().id;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int toJsonArray() {
+        return JsonUtils.toJson(mUsers).length();
+    }
+
+    @Benchmark
+    public long writeArray() {
+        CountingWriter out = new CountingWriter();
+        JsonArrayWriter<User> writer = JsonUtils.newArrayWriter(out, User.class);
+        writer.writeAll(mUsers).close();
+        return out.count;
+    }
+
+    @Benchmark
+    public List<User> fromJsonSmallArrayParameterized() {
+        return JsonUtils.GSON.fromJson(mSmallArrayJson, TypeToken.getParameterized(List.class, User.class).getType());
+    }
+
+    @Benchmark
+    public List<User> fromJsonSmallArrayListOf() {
+        return JsonUtils.fromJson(mSmallArrayJson, JsonUtils.listOf(User.class));
+    }
+
+    @Benchmark
+    public TypeAdapter<?> adapterLookupParameterized() {
+        return JsonUtils.GSON.getAdapter(TypeToken.getParameterized(List.class, User.class));
+    }
+
+    @Benchmark
+    public TypeAdapter<?> adapterLookupListOf() {
+        return JsonUtils.getAdapter(JsonUtils.listOf(User.class));
+    }
+
+    @Benchmark
+    public List<Object> toList() {
+        return JsonUtils.toList(mSmallArrayJson);
+    }
+
+    /** 旧的用法：先解析为List&lt;LinkedTreeMap&gt;，再逐个转换 */
+    @Benchmark
+    public List<User> toListThenFromMap() {
+        List<Map<String, Object>> maps = JsonUtils.toList(mArrayJson);
+        List<User> users = new ArrayList<>(maps.size());
+        for (Map<String, Object> map : maps) {
+            User user = JsonUtils.fromMap(map, User.class);
+            users.add(user);
+        }
+        return users;
+    }
+
+    @Benchmark
+    public List<User> toListTyped() {
+        return JsonUtils.toList(mArrayJson, User.class);
+    }
+
+    @Benchmark
+    public long fromJsonThenGet() {
+        Page page = JsonUtils.fromJson(mPageJson, Page.class);
+        return page.page + page.users.get(1).id;
+    }
+
+    @Benchmark
+    public long extractPaths() {
+        JsonElement[] values = JsonUtils.extractAll(mPageJson, "page", "users[1].id");
+        return values[0].getAsLong() + values[1].getAsLong();
+    }
+
+    @Benchmark
+    public String toJsonPage() {
+        return JsonUtils.toJson(mPage);
+    }
+
+    @Benchmark
+    public byte[] toBytesPage() {
+        return JsonUtils.toBytes(mPage);
+    }
+
+    @Benchmark
+    public Page fromJsonPage() {
+        return JsonUtils.fromJson(mPageJson, Page.class);
+    }
+
+    @Benchmark
+    public Page fromBytesPage() {
+        return JsonUtils.fromBytes(mPageBytes, Page.class);
+    }
+
+    @Benchmark
+    public Page fromMapLarge() {
+        return JsonUtils.fromMap(mPageMap, Page.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> objectToMap() {
+        return JsonUtils.objectToMap(mUser);
+    }
+
+    /** 只统计字符数的输出，模拟写入文件或网络 */
+    private static final class CountingWriter extends Writer {
+        long count;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            count += length;
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            count += length;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static class Page {
+        public int page;
+        public List<User> users;
+    }
+
+    public static class User {
+        public long id;
+        public String name;
+        public double score;
+        public boolean vip;
+        public List<String> tags;
+        public Date created;
+
+        static User create(int index) {
+            User user = new User();
+            user.id = 10000 + index;
+            user.name = "user-" + index;
+            user.score = index * 1.5;
+            user.vip = index % 2 == 0;
+            user.tags = Arrays.asList("android", "java", "tag" + index);
+            user.created = new Date(1760000000000L + index * 1000L);
+            return user;
+        }
+    }
+
+    /** 和{@link User}相同的字段，使用编译时生成的解析器 */
+    @FastJson
+    public static class FastUser {
+        public long id;
+        public String name;
+        public double score;
+        public boolean vip;
+        public List<String> tags;
+        public Date created;
+    }
+}
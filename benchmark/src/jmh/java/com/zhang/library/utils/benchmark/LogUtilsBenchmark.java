@@ -0,0 +1,85 @@
+package com.zhang.library.utils.benchmark;
+
+import com.zhang.library.utils.LogUtils;
+import com.zhang.library.utils.log.LogSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LogUtils}的基准测试，分别测试日志开关、追踪模式下各个输出方法的耗时
+ *
+ * @author ZhangXiaoMing 2026-10-18 19:40 周日
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogUtilsBenchmark {
+
+    private static final String TAG = "Benchmark";
+
+    /** 是否输出日志，为false时测试的是过滤的开销 */
+    @Param({"true", "false"})
+    public boolean debug;
+    /** 是否开启追踪，开启后标签和调用位置从调用栈获取 */
+    @Param({"false", "true"})
+    public boolean track;
+
+    private int mCount;
+    private final LogSupplier mSupplier = new LogSupplier() {
+        @Override
+        public String get() {
+            return "supplier count=" + mCount;
+        }
+    };
+
+    @Setup
+    public void setup() {
+        LogUtils.init(debug, track);
+    }
+
+    @TearDown
+    public void tearDown() {
+        LogUtils.init(false, false);
+    }
+
+    @Benchmark
+    public void message() {
+        LogUtils.debug(TAG, "load finished");
+    }
+
+    @Benchmark
+    public void messageWithoutTag() {
+        LogUtils.debug("load finished");
+    }
+
+    @Benchmark
+    public void format() {
+        LogUtils.debug(TAG, "load finished, count=%d, name=%s", ++mCount, TAG);
+    }
+
+    @Benchmark
+    public void formatPrimitive() {
+        LogUtils.debug(TAG, "load finished, count=%d", ++mCount);
+    }
+
+    @Benchmark
+    public void supplier() {
+        mCount++;
+        LogUtils.debugLazy(TAG, mSupplier);
+    }
+
+    @Benchmark
+    public void structured() {
+        LogUtils.at(LogUtils.DEBUG).tag(TAG).kv("count", ++mCount).kv("name", TAG).log("load finished");
+    }
+}
@@ -0,0 +1,46 @@
+package com.zhang.library.utils.benchmark;
+
+import android.content.Context;
+import android.text.SpannableString;
+
+import com.zhang.library.utils.context.ContextUtils;
+import com.zhang.library.utils.context.StringUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StringUtils}的基准测试
+ *
+ * @author ZhangXiaoMing 2026-10-18 20:00 周日
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringUtilsBenchmark {
+
+    private static final String FULL_WIDTH_TEXT = "ＡＮＤＲＯＩＤ，中英文混合的文字（ｔｅｓｔ）　１２３４５６";
+    private static final String HIGHLIGHT_TEXT = "搜索结果：Android工具库，包含日志、Json、时间等Android常用工具";
+
+    @Setup
+    public void setup() {
+        ContextUtils.set(new Context());
+    }
+
+    @Benchmark
+    public String toDBC() {
+        return StringUtils.ToDBC(FULL_WIDTH_TEXT);
+    }
+
+    @Benchmark
+    public SpannableString getHighlightSpanString() {
+        return StringUtils.getHighlightSpanString(HIGHLIGHT_TEXT, "Android");
+    }
+}
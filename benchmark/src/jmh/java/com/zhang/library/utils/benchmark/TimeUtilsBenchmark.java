@@ -0,0 +1,72 @@
+package com.zhang.library.utils.benchmark;
+
+import com.zhang.library.utils.TimeUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimeUtils}的基准测试
+ *
+ * @author ZhangXiaoMing 2026-10-18 19:50 周日
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimeUtilsBenchmark {
+
+    private long mTimestamp = 1760000000000L;
+
+    @Benchmark
+    public String getTimesFromTimestamp() {
+        return TimeUtils.getTimes(mTimestamp += 1000);
+    }
+
+    @Benchmark
+    public String getTimesWithFormat() {
+        return TimeUtils.getTimes(TimeUtils.DATE_FORMAT_YYYY_MM_DD, mTimestamp += 1000);
+    }
+
+    @Benchmark
+    public String getTimesFromString() {
+        return TimeUtils.getTimes("2026-10-18 19:50:00");
+    }
+
+    @Benchmark
+    public int getDaysBetweenDates() throws ParseException {
+        return TimeUtils.getDaysBetween(new Date(mTimestamp), new Date(mTimestamp += TimeUtils.DAY_IN_MILLIS * 3 + 1000));
+    }
+
+    @Benchmark
+    public String getDays() {
+        return TimeUtils.getDays(mTimestamp += 1000, 3);
+    }
+
+    @Benchmark
+    public int getDaysBetween() {
+        return TimeUtils.getDaysBetween(mTimestamp, mTimestamp += TimeUtils.DAY_IN_MILLIS * 3 + 1000);
+    }
+
+    @Benchmark
+    public long getDaysInMillis() {
+        return TimeUtils.getDaysInMillis(mTimestamp += 1000, 3);
+    }
+
+    @Benchmark
+    public String calculateTimeDifference() {
+        return TimeUtils.calculateTimeDifference("2026-10-18 19:50:00");
+    }
+
+    @Benchmark
+    public String calculateTimeDifferenceMillis() {
+        return TimeUtils.calculateTimeDifference(mTimestamp += 1000);
+    }
+}
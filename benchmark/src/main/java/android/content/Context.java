@@ -0,0 +1,19 @@
+package android.content;
+
+import android.content.res.Resources;
+
+/**
+ * android.content.Context的JVM替身
+ */
+public class Context {
+
+    private final Resources mResources = new Resources();
+
+    public Context getApplicationContext() {
+        return this;
+    }
+
+    public Resources getResources() {
+        return mResources;
+    }
+}
@@ -0,0 +1,19 @@
+package android.content.res;
+
+/**
+ * android.content.res.Resources的JVM替身，颜色返回固定值，文字返回资源id
+ */
+public class Resources {
+
+    public int getColor(int id) {
+        return 0xFF3F51B5;
+    }
+
+    public String getString(int id) {
+        return String.valueOf(id);
+    }
+
+    public String getString(int id, Object... formatArgs) {
+        return String.format(getString(id), formatArgs);
+    }
+}
@@ -0,0 +1,11 @@
+package android.text;
+
+/**
+ * android.text.Spannable的JVM替身
+ */
+public interface Spannable extends CharSequence {
+
+    int SPAN_EXCLUSIVE_EXCLUSIVE = 0x21;
+
+    void setSpan(Object what, int start, int end, int flags);
+}
@@ -0,0 +1,52 @@
+package android.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * android.text.SpannableString的JVM替身，和系统实现一样按数组保存span
+ */
+public class SpannableString implements Spannable {
+
+    private final String mText;
+    private final List<Object> mSpans = new ArrayList<>();
+    private final List<int[]> mRanges = new ArrayList<>();
+
+    public SpannableString(CharSequence source) {
+        mText = source.toString();
+    }
+
+    @Override
+    public void setSpan(Object what, int start, int end, int flags) {
+        if (start < 0 || end > mText.length() || start > end)
+            throw new IndexOutOfBoundsException("setSpan (" + start + " ... " + end + ")");
+
+        mSpans.add(what);
+        mRanges.add(new int[]{start, end, flags});
+    }
+
+    /** 获取span的数量 */
+    public int getSpanCount() {
+        return mSpans.size();
+    }
+
+    @Override
+    public int length() {
+        return mText.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return mText.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return mText.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return mText;
+    }
+}
@@ -0,0 +1,22 @@
+package android.text;
+
+/**
+ * android.text.TextUtils的JVM替身
+ */
+public class TextUtils {
+
+    private TextUtils() {
+    }
+
+    public static boolean isEmpty(CharSequence str) {
+        return str == null || str.length() == 0;
+    }
+
+    public static boolean equals(CharSequence a, CharSequence b) {
+        if (a == b)
+            return true;
+        if (a == null || b == null || a.length() != b.length())
+            return false;
+        return a.toString().equals(b.toString());
+    }
+}
@@ -0,0 +1,17 @@
+package android.text.style;
+
+/**
+ * android.text.style.ForegroundColorSpan的JVM替身
+ */
+public class ForegroundColorSpan {
+
+    private final int mColor;
+
+    public ForegroundColorSpan(int color) {
+        mColor = color;
+    }
+
+    public int getForegroundColor() {
+        return mColor;
+    }
+}
@@ -0,0 +1,46 @@
+package android.util;
+
+/**
+ * android.util.Log的JVM替身，只统计输出的字符数，不写入任何地方
+ */
+public final class Log {
+
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+    public static final int ASSERT = 7;
+
+    /** 输出的字符数，避免输出被JIT消除 */
+    public static long sWrittenChars;
+
+    private Log() {
+    }
+
+    public static int println(int priority, String tag, String msg) {
+        int length = tag.length() + msg.length();
+        sWrittenChars += length;
+        return length;
+    }
+
+    public static int v(String tag, String msg) {
+        return println(VERBOSE, tag, msg);
+    }
+
+    public static int d(String tag, String msg) {
+        return println(DEBUG, tag, msg);
+    }
+
+    public static int i(String tag, String msg) {
+        return println(INFO, tag, msg);
+    }
+
+    public static int w(String tag, String msg) {
+        return println(WARN, tag, msg);
+    }
+
+    public static int e(String tag, String msg) {
+        return println(ERROR, tag, msg);
+    }
+}
@@ -0,0 +1,11 @@
+package com.zhang.library.utils;
+
+/**
+ * lib模块R文件的JVM替身，只包含基准测试用到的资源
+ */
+public final class R {
+
+    public static final class color {
+        public static final int colorPrimary = 0x7f050001;
+    }
+}
@@ -0,0 +1,28 @@
+package com.zhang.library.utils.json.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 编译时生成Gson的TypeAdapter，替代反射解析
+ * <p>
+ * 需要添加注解处理器：annotationProcessor project(':json-processor')，
+ * 生成的类名为"类名_FastJsonAdapter"（嵌套类为"外部类_类名_FastJsonAdapter"），由JsonUtils自动注册。
+ * 要求：
+ * <ul>
+ * <li>类不能是抽象类、非静态内部类或者泛型类，需要有非私有的无参构造方法</li>
+ * <li>参与解析的字段不能是private或final，static和transient字段不参与解析</li>
+ * <li>支持{@code @SerializedName}，不支持{@code @JsonAdapter}</li>
+ * <li>字段按声明类型序列化</li>
+ * </ul>
+ *
+ * @author ZhangXiaoMing 2026-10-18 22:20 周日
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface FastJson {
+}
@@ -0,0 +1,284 @@
+package com.zhang.library.utils.json.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * 生成TypeAdapter的源码
+ * <p>
+ * int、long、double、boolean、对应的包装类型和String直接读写，和Gson内置解析器的行为一致；
+ * 其他类型在构造方法中通过Gson获取解析器
+ *
+ * @author ZhangXiaoMing 2026-10-18 22:20 周日
+ */
+final class AdapterWriter {
+
+    private static final String SUPPORT = "FastJsonSupport";
+
+    private final String mPackageName;
+    private final String mAdapterName;
+    private final String mClassName;
+    private final List<JsonField> mFields;
+
+    /** 字段类型的写法对应的解析器字段名，相同类型共用一个解析器 */
+    private final Map<String, String> mDelegates = new LinkedHashMap<>();
+    private final Map<String, TypeMirror> mDelegateTypes = new LinkedHashMap<>();
+    private boolean isDoubleUsed;
+
+    private final StringBuilder mBuilder = new StringBuilder(4096);
+
+    AdapterWriter(String packageName, String adapterName, String className, List<JsonField> fields) {
+        mPackageName = packageName;
+        mAdapterName = adapterName;
+        mClassName = className;
+        mFields = fields;
+    }
+
+    void write(Writer writer) throws IOException {
+        for (JsonField field : mFields) {
+            Kind kind = Kind.of(field.getType());
+            if (kind == Kind.DOUBLE || kind == Kind.BOXED_DOUBLE) {
+                isDoubleUsed = true;
+            } else if (kind == Kind.DELEGATE) {
+                String source = TypeNames.toSource(field.getType());
+                if (!mDelegates.containsKey(source)) {
+                    mDelegates.put(source, "mAdapter" + mDelegates.size());
+                    mDelegateTypes.put(source, field.getType());
+                }
+            }
+        }
+
+        writeHeader();
+        writeConstructor();
+        writeWrite();
+        writeRead();
+        line(0, "}");
+        writer.write(mBuilder.toString());
+    }
+
+    private void writeHeader() {
+        if (!mPackageName.isEmpty()) {
+            line(0, "package " + mPackageName + ";");
+            line(0, "");
+        }
+        line(0, "import com.google.gson.Gson;");
+        line(0, "import com.google.gson.TypeAdapter;");
+        line(0, "import com.google.gson.reflect.TypeToken;");
+        line(0, "import com.google.gson.stream.JsonReader;");
+        line(0, "import com.google.gson.stream.JsonToken;");
+        line(0, "import com.google.gson.stream.JsonWriter;");
+        line(0, "import com.zhang.library.utils.json.FastJsonSupport;");
+        line(0, "");
+        line(0, "import java.io.IOException;");
+        line(0, "");
+        line(0, "/** " + mClassName + "的解析器，由FastJsonProcessor生成，不要修改 */");
+        line(0, "public final class " + mAdapterName + " extends TypeAdapter<" + mClassName + "> {");
+        line(0, "");
+        if (isDoubleUsed)
+            line(1, "private final TypeAdapter<java.lang.Double> mDoubleAdapter;");
+        for (Map.Entry<String, String> entry : mDelegates.entrySet()) {
+            line(1, "private final TypeAdapter<" + TypeNames.toBoxedSource(mDelegateTypes.get(entry.getKey())) + "> " + entry.getValue() + ";");
+        }
+        if (isDoubleUsed || !mDelegates.isEmpty())
+            line(0, "");
+    }
+
+    private void writeConstructor() {
+        line(1, "public " + mAdapterName + "(Gson gson) {");
+        if (isDoubleUsed)
+            line(2, "mDoubleAdapter = gson.getAdapter(java.lang.Double.class);");
+        for (Map.Entry<String, String> entry : mDelegates.entrySet()) {
+            TypeMirror type = mDelegateTypes.get(entry.getKey());
+            if (TypeNames.isParameterized(type)) {
+                line(2, entry.getValue() + " = gson.getAdapter(new TypeToken<" + entry.getKey() + ">() {");
+                line(2, "});");
+            } else {
+                line(2, entry.getValue() + " = gson.getAdapter(" + TypeNames.toRawSource(type) + ".class);");
+            }
+        }
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeWrite() {
+        line(1, "@Override");
+        line(1, "public void write(JsonWriter out, " + mClassName + " value) throws IOException {");
+        line(2, "if (value == null) {");
+        line(3, "out.nullValue();");
+        line(3, "return;");
+        line(2, "}");
+        line(0, "");
+        line(2, "out.beginObject();");
+        for (JsonField field : mFields) {
+            String name = "out.name(" + quote(field.getName()) + ")";
+            String fieldValue = "value." + field.getFieldName();
+            switch (Kind.of(field.getType())) {
+                case DOUBLE:
+                case BOXED_DOUBLE:
+                    line(2, SUPPORT + ".writeDouble(" + name + ", " + fieldValue + ", mDoubleAdapter);");
+                    break;
+                case DELEGATE:
+                    line(2, name + ";");
+                    line(2, getDelegate(field) + ".write(out, " + fieldValue + ");");
+                    break;
+                default:
+                    line(2, name + ".value(" + fieldValue + ");");
+                    break;
+            }
+        }
+        line(2, "out.endObject();");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeRead() {
+        line(1, "@Override");
+        line(1, "public " + mClassName + " read(JsonReader in) throws IOException {");
+        line(2, "if (in.peek() == JsonToken.NULL) {");
+        line(3, "in.nextNull();");
+        line(3, "return null;");
+        line(2, "}");
+        line(0, "");
+        line(2, mClassName + " value = new " + mClassName + "();");
+        line(2, "in.beginObject();");
+        line(2, "while (in.hasNext()) {");
+        line(3, "switch (in.nextName()) {");
+        for (JsonField field : mFields) {
+            List<String> names = field.getNames();
+            for (int i = 0; i < names.size(); i++) {
+                boolean isBlock = i == names.size() - 1 && isPrimitiveDelegate(field);
+                line(4, "case " + quote(names.get(i)) + (isBlock ? ": {" : ":"));
+            }
+            writeReadField(field);
+        }
+        line(4, "default:");
+        line(5, "in.skipValue();");
+        line(5, "break;");
+        line(3, "}");
+        line(2, "}");
+        line(2, "in.endObject();");
+        line(2, "return value;");
+        line(1, "}");
+    }
+
+    /** 基本类型字段遇到null时保持原值，和Gson的反射解析一致 */
+    private void writeReadField(JsonField field) {
+        String target = "value." + field.getFieldName();
+        Kind kind = Kind.of(field.getType());
+        switch (kind) {
+            case INT:
+            case LONG:
+            case DOUBLE:
+            case BOOLEAN:
+                line(5, "if (!" + SUPPORT + ".skipNull(in))");
+                line(6, target + " = " + SUPPORT + "." + kind.mReadMethod + "(in);");
+                line(5, "break;");
+                break;
+            case BOXED_INT:
+            case BOXED_LONG:
+            case BOXED_DOUBLE:
+            case BOXED_BOOLEAN:
+                line(5, target + " = " + SUPPORT + ".skipNull(in) ? null : " + kind.mBoxedClass + ".valueOf(" + SUPPORT + "." + kind.mReadMethod + "(in));");
+                line(5, "break;");
+                break;
+            case STRING:
+                line(5, target + " = " + SUPPORT + ".nextString(in);");
+                line(5, "break;");
+                break;
+            default:
+                if (isPrimitiveDelegate(field)) {
+                    line(5, TypeNames.toBoxedSource(field.getType()) + " fieldValue = " + getDelegate(field) + ".read(in);");
+                    line(5, "if (fieldValue != null)");
+                    line(6, target + " = fieldValue;");
+                    line(5, "break;");
+                    line(4, "}");
+                } else {
+                    line(5, target + " = " + getDelegate(field) + ".read(in);");
+                    line(5, "break;");
+                }
+                break;
+        }
+    }
+
+    /** 交给解析器的基本类型，需要在代码块中声明局部变量 */
+    private static boolean isPrimitiveDelegate(JsonField field) {
+        return Kind.of(field.getType()) == Kind.DELEGATE && field.getType().getKind().isPrimitive();
+    }
+
+    private String getDelegate(JsonField field) {
+        return mDelegates.get(TypeNames.toSource(field.getType()));
+    }
+
+    private void line(int indent, String text) {
+        if (!text.isEmpty()) {
+            for (int i = 0; i < indent; i++) {
+                mBuilder.append("    ");
+            }
+            mBuilder.append(text);
+        }
+        mBuilder.append('\n');
+    }
+
+    private static String quote(String text) {
+        StringBuilder builder = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\')
+                builder.append('\\').append(c);
+            else if (c < 0x20 || c > 0x7e)
+                builder.append(String.format("\\u%04x", (int) c));
+            else
+                builder.append(c);
+        }
+        return builder.append('"').toString();
+    }
+
+    /** 字段的读写方式 */
+    private enum Kind {
+        INT("nextInt", null),
+        LONG("nextLong", null),
+        DOUBLE("nextDouble", null),
+        BOOLEAN("nextBoolean", null),
+        BOXED_INT("nextInt", "java.lang.Integer"),
+        BOXED_LONG("nextLong", "java.lang.Long"),
+        BOXED_DOUBLE("nextDouble", "java.lang.Double"),
+        BOXED_BOOLEAN("nextBoolean", "java.lang.Boolean"),
+        STRING("nextString", null),
+        /** 交给Gson的解析器 */
+        DELEGATE(null, null);
+
+        final String mReadMethod;
+        final String mBoxedClass;
+
+        Kind(String readMethod, String boxedClass) {
+            mReadMethod = readMethod;
+            mBoxedClass = boxedClass;
+        }
+
+        static Kind of(TypeMirror type) {
+            TypeKind kind = type.getKind();
+            if (kind == TypeKind.INT)
+                return INT;
+            if (kind == TypeKind.LONG)
+                return LONG;
+            if (kind == TypeKind.DOUBLE)
+                return DOUBLE;
+            if (kind == TypeKind.BOOLEAN)
+                return BOOLEAN;
+
+            for (Kind value : values()) {
+                if (value.mBoxedClass != null && TypeNames.isClass(type, value.mBoxedClass))
+                    return value;
+            }
+            if (TypeNames.isClass(type, "java.lang.String"))
+                return STRING;
+            return DELEGATE;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.zhang.library.utils.json.processor;
+
+import com.zhang.library.utils.json.annotation.FastJson;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * {@link FastJson}注解处理器，为每个注解的类生成"类名_FastJsonAdapter"
+ * <p>
+ * 字段的收集规则和Gson的反射解析一致：跳过static和transient字段，子类字段在前，
+ * 支持SerializedName的value和alternate；无法生成时直接报编译错误，不会静默退回反射
+ *
+ * @author ZhangXiaoMing 2026-10-18 22:20 周日
+ */
+public class FastJsonProcessor extends AbstractProcessor {
+
+    static final String ADAPTER_SUFFIX = "_FastJsonAdapter";
+
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    private static final String JSON_ADAPTER = "com.google.gson.annotations.JsonAdapter";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(FastJson.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(FastJson.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@FastJson只能用于类");
+                continue;
+            }
+
+            TypeElement type = (TypeElement) element;
+            List<JsonField> fields = collectFields(type);
+            if (fields != null)
+                generate(type, fields);
+        }
+        return true;
+    }
+
+    /**
+     * 检查类并收集参与解析的字段
+     *
+     * @return 字段列表，有错误时返回null
+     */
+    private List<JsonField> collectFields(TypeElement type) {
+        boolean isValid = checkClass(type);
+
+        String packageName = getPackageName(type);
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        List<JsonField> fields = new ArrayList<>();
+        Map<String, VariableElement> names = new HashMap<>();
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            boolean isInherited = current != type;
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT))
+                    continue;
+
+                if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+                    isValid = false;
+                    error(field, "@FastJson的字段不能是private或final：%s.%s", current.getQualifiedName(), field.getSimpleName());
+                    continue;
+                }
+                if (isInherited && !modifiers.contains(Modifier.PUBLIC) && !packageName.equals(getPackageName(current))) {
+                    isValid = false;
+                    error(type, "父类%s的字段%s无法在%s包中访问，需要改为public", current.getQualifiedName(), field.getSimpleName(), packageName);
+                    continue;
+                }
+                if (getAnnotation(field, JSON_ADAPTER) != null) {
+                    isValid = false;
+                    error(field, "@FastJson的字段不支持@JsonAdapter");
+                    continue;
+                }
+
+                TypeMirror fieldType = processingEnv.getTypeUtils().asMemberOf(declaredType, field);
+                if (TypeNames.hasTypeVariable(fieldType)) {
+                    isValid = false;
+                    error(type, "无法确定字段%s的类型：%s", field.getSimpleName(), fieldType);
+                    continue;
+                }
+
+                JsonField jsonField = new JsonField(field.getSimpleName().toString(), fieldType);
+                readSerializedName(field, jsonField);
+                for (String name : jsonField.getNames()) {
+                    VariableElement previous = names.put(name, field);
+                    if (previous != null) {
+                        isValid = false;
+                        error(type, "多个字段使用了同一个Json名称\"%s\"：%s、%s", name, previous.getSimpleName(), field.getSimpleName());
+                    }
+                }
+                fields.add(jsonField);
+            }
+        }
+        return isValid ? fields : null;
+    }
+
+    private boolean checkClass(TypeElement type) {
+        boolean isValid = true;
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            isValid = false;
+            error(type, "@FastJson不能用于抽象类");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            isValid = false;
+            error(type, "@FastJson不能用于泛型类");
+        }
+        if (getAnnotation(type, JSON_ADAPTER) != null) {
+            isValid = false;
+            error(type, "@FastJson不能和@JsonAdapter同时使用");
+        }
+
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                isValid = false;
+                error(type, "@FastJson的类不能是private：%s", ((TypeElement) current).getQualifiedName());
+            }
+            if (current.getEnclosingElement().getKind() != ElementKind.PACKAGE && !modifiers.contains(Modifier.STATIC)) {
+                isValid = false;
+                error(type, "@FastJson不能用于非静态内部类：%s", ((TypeElement) current).getQualifiedName());
+            }
+        }
+
+        boolean hasConstructor = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE))
+                hasConstructor = true;
+        }
+        if (!hasConstructor) {
+            isValid = false;
+            error(type, "@FastJson的类需要非private的无参构造方法");
+        }
+        return isValid;
+    }
+
+    private void readSerializedName(VariableElement field, JsonField jsonField) {
+        AnnotationMirror annotation = getAnnotation(field, SERIALIZED_NAME);
+        if (annotation == null)
+            return;
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            String key = entry.getKey().getSimpleName().toString();
+            if ("value".equals(key)) {
+                jsonField.setName((String) entry.getValue().getValue());
+            } else if ("alternate".equals(key)) {
+                @SuppressWarnings("unchecked")
+                List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) entry.getValue().getValue();
+                for (AnnotationValue value : values) {
+                    jsonField.addAlternate((String) value.getValue());
+                }
+            }
+        }
+    }
+
+    private void generate(TypeElement type, List<JsonField> fields) {
+        String packageName = getPackageName(type);
+        String adapterName = getAdapterName(type);
+        String qualifiedName = packageName.isEmpty() ? adapterName : packageName + "." + adapterName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                new AdapterWriter(packageName, adapterName, type.getQualifiedName().toString(), fields).write(writer);
+            }
+        } catch (IOException e) {
+            error(type, "生成%s失败：%s", qualifiedName, e.getMessage());
+        }
+    }
+
+    /** 嵌套类用"_"连接外部类，例如Outer_Inner_FastJsonAdapter */
+    private static String getAdapterName(TypeElement type) {
+        StringBuilder builder = new StringBuilder(type.getSimpleName());
+        for (Element current = type.getEnclosingElement(); current instanceof TypeElement; current = current.getEnclosingElement()) {
+            builder.insert(0, '_').insert(0, current.getSimpleName());
+        }
+        return builder.append(ADAPTER_SUFFIX).toString();
+    }
+
+    private String getPackageName(TypeElement type) {
+        PackageElement element = processingEnv.getElementUtils().getPackageOf(type);
+        return element.isUnnamed() ? "" : element.getQualifiedName().toString();
+    }
+
+    private static TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED)
+            return null;
+
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private static AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName))
+                return annotation;
+        }
+        return null;
+    }
+
+    private void error(Element element, String format, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, args), element);
+    }
+}
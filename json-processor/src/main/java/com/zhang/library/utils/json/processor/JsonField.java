@@ -0,0 +1,59 @@
+package com.zhang.library.utils.json.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * 参与解析的字段
+ *
+ * @author ZhangXiaoMing 2026-10-18 22:20 周日
+ */
+final class JsonField {
+
+    private final String mFieldName;
+    private final TypeMirror mType;
+    private String mName;
+    private final List<String> mAlternates = new ArrayList<>();
+
+    JsonField(String fieldName, TypeMirror type) {
+        mFieldName = fieldName;
+        mType = type;
+        mName = fieldName;
+    }
+
+    /** Java字段名 */
+    String getFieldName() {
+        return mFieldName;
+    }
+
+    /** 字段类型，父类的泛型已替换为实际类型 */
+    TypeMirror getType() {
+        return mType;
+    }
+
+    /** 序列化时使用的Json名称 */
+    String getName() {
+        return mName;
+    }
+
+    void setName(String name) {
+        mName = name;
+    }
+
+    void addAlternate(String alternate) {
+        mAlternates.add(alternate);
+    }
+
+    /** 解析时可以匹配的所有Json名称 */
+    List<String> getNames() {
+        List<String> names = new ArrayList<>(mAlternates.size() + 1);
+        names.add(mName);
+        for (String alternate : mAlternates) {
+            if (!names.contains(alternate))
+                names.add(alternate);
+        }
+        return names;
+    }
+}
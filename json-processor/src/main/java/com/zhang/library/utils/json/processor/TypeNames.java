@@ -0,0 +1,136 @@
+package com.zhang.library.utils.json.processor;
+
+import java.util.List;
+import java.util.Locale;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+
+/**
+ * 把类型转换为源码中的写法
+ *
+ * @author ZhangXiaoMing 2026-10-18 22:20 周日
+ */
+final class TypeNames {
+
+    private TypeNames() {
+    }
+
+    /** 源码中的完整写法，例如java.util.List&lt;java.lang.String&gt; */
+    static String toSource(TypeMirror type) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, type, true);
+        return builder.toString();
+    }
+
+    /** 擦除泛型后的写法，用于Class字面量 */
+    static String toRawSource(TypeMirror type) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, type, false);
+        return builder.toString();
+    }
+
+    /** 作为泛型参数的写法，基本类型转换为包装类型 */
+    static String toBoxedSource(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "java.lang.Boolean";
+            case BYTE:
+                return "java.lang.Byte";
+            case SHORT:
+                return "java.lang.Short";
+            case INT:
+                return "java.lang.Integer";
+            case LONG:
+                return "java.lang.Long";
+            case CHAR:
+                return "java.lang.Character";
+            case FLOAT:
+                return "java.lang.Float";
+            case DOUBLE:
+                return "java.lang.Double";
+            default:
+                return toSource(type);
+        }
+    }
+
+    /** 是否带有泛型参数，带有时需要用TypeToken获取解析器 */
+    static boolean isParameterized(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY)
+            return isParameterized(((ArrayType) type).getComponentType());
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    /** 是否包含无法确定的泛型变量 */
+    static boolean hasTypeVariable(TypeMirror type) {
+        switch (type.getKind()) {
+            case TYPEVAR:
+                return true;
+            case ARRAY:
+                return hasTypeVariable(((ArrayType) type).getComponentType());
+            case WILDCARD: {
+                WildcardType wildcard = (WildcardType) type;
+                return (wildcard.getExtendsBound() != null && hasTypeVariable(wildcard.getExtendsBound()))
+                        || (wildcard.getSuperBound() != null && hasTypeVariable(wildcard.getSuperBound()));
+            }
+            case DECLARED:
+                for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                    if (hasTypeVariable(argument))
+                        return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /** 是否是指定的类 */
+    static boolean isClass(TypeMirror type, String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static void append(StringBuilder builder, TypeMirror type, boolean hasArguments) {
+        switch (type.getKind()) {
+            case ARRAY:
+                append(builder, ((ArrayType) type).getComponentType(), hasArguments);
+                builder.append("[]");
+                break;
+            case WILDCARD: {
+                WildcardType wildcard = (WildcardType) type;
+                builder.append('?');
+                if (wildcard.getExtendsBound() != null) {
+                    builder.append(" extends ");
+                    append(builder, wildcard.getExtendsBound(), true);
+                } else if (wildcard.getSuperBound() != null) {
+                    builder.append(" super ");
+                    append(builder, wildcard.getSuperBound(), true);
+                }
+                break;
+            }
+            case DECLARED: {
+                DeclaredType declared = (DeclaredType) type;
+                builder.append(((TypeElement) declared.asElement()).getQualifiedName());
+                List<? extends TypeMirror> arguments = declared.getTypeArguments();
+                if (hasArguments && !arguments.isEmpty()) {
+                    builder.append('<');
+                    for (int i = 0; i < arguments.size(); i++) {
+                        if (i > 0)
+                            builder.append(", ");
+                        append(builder, arguments.get(i), true);
+                    }
+                    builder.append('>');
+                }
+                break;
+            }
+            default:
+                //基本类型
+                builder.append(type.getKind().name().toLowerCase(Locale.US));
+                break;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+# FastJson：按类名查找编译时生成的解析器，需要保留注解、注解的类名和解析器的构造方法
+-keepattributes RuntimeVisibleAnnotations
+-keep @interface com.zhang.library.utils.json.annotation.FastJson
+-if @com.zhang.library.utils.json.annotation.FastJson class **
+-keepnames class <1>
+-if @com.zhang.library.utils.json.annotation.FastJson class **
+-keep class <1>_FastJsonAdapter {
+    <init>(com.google.gson.Gson);
+}
+-if @com.zhang.library.utils.json.annotation.FastJson class **$*
+-keep class <1>_<2>_FastJsonAdapter {
+    <init>(com.google.gson.Gson);
+}
@@ -2,10 +2,47 @@ package com.zhang.library.utils;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import com.zhang.library.utils.json.FastDateTypeAdapter;
+import com.zhang.library.utils.json.FastJsonAdapterFactory;
+import com.zhang.library.utils.json.JsonArrayCallback;
+import com.zhang.library.utils.json.JsonArrayIterator;
+import com.zhang.library.utils.json.JsonArrayWriter;
+import com.zhang.library.utils.json.JsonPath;
+import com.zhang.library.utils.json.JsonPathExtractor;
+import com.zhang.library.utils.json.JsonTypes;
+import com.zhang.library.utils.json.MessagePackMapAdapterFactory;
+import com.zhang.library.utils.json.MessagePackReader;
+import com.zhang.library.utils.json.MessagePackWriter;
+import com.zhang.library.utils.json.NdJsonWriter;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -18,11 +55,25 @@ public class JsonUtils {
 
     public static final Gson GSON;
 
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /** 类型缓存 */
+    private static final JsonTypes TYPES;
+
+    private static final Type LIST_TYPE = new TypeToken<List<Object>>() {
+    }.getType();
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {
+    }.getType();
+
     static {
         GSON = new GsonBuilder()
                 .setDateFormat("yyyy-MM-dd HH:mm:ss")
+                .registerTypeAdapter(Date.class, new FastDateTypeAdapter())
+                .registerTypeAdapterFactory(new FastJsonAdapterFactory())
+                .registerTypeAdapterFactory(new MessagePackMapAdapterFactory())
 //                .setPrettyPrinting()
                 .create();
+        TYPES = new JsonTypes(GSON);
     }
 
     private JsonUtils() {
@@ -38,8 +89,49 @@ public class JsonUtils {
     }
 
 
+    /**
+     * 序列化直接写入输出，不生成字符串，写入后flush，不关闭输出
+     *
+     * @param object 对象
+     * @param writer 输出
+     */
+    public static void writeJson(Object object, Writer writer) {
+        try {
+            GSON.toJson(object, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * 序列化直接写入输出，UTF-8编码，写入后flush，不关闭输出
+     *
+     * @param object 对象
+     * @param out    输出
+     */
+    public static void writeJson(Object object, OutputStream out) {
+        writeJson(object, newWriter(out));
+    }
+
+    /**
+     * 序列化直接写入文件，UTF-8编码
+     *
+     * @param object 对象
+     * @param file   文件，已存在时覆盖
+     */
+    public static void writeJson(Object object, File file) {
+        Writer writer = newWriter(file);
+        try {
+            writeJson(object, writer);
+        } finally {
+            closeQuietly(writer);
+        }
+    }
+
+
     public static <T> T fromJson(String json, Type type) {
-        return GSON.fromJson(json, type);
+        return GSON.fromJson(json, getTypeToken(type));
     }
 
     public static <T> T fromJson(Gson gson, String json, Type type) {
@@ -50,19 +142,94 @@ public class JsonUtils {
     }
 
 
+    /**
+     * 序列化为MessagePack格式，规则和{@link #toJson(Object)}一致，数据更小，解析更快，适合本地缓存
+     *
+     * @param object 对象
+     */
+    public static byte[] toBytes(Object object) {
+        MessagePackWriter writer = new MessagePackWriter();
+        if (object == null)
+            GSON.toJson(JsonNull.INSTANCE, writer);
+        else
+            GSON.toJson(object, object.getClass(), writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * 按指定类型序列化为MessagePack格式
+     *
+     * @param object 对象
+     * @param type   对象的类型，泛型对象需要指定
+     */
+    public static byte[] toBytes(Object object, Type type) {
+        MessagePackWriter writer = new MessagePackWriter();
+        GSON.toJson(object, type, writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * 解析{@link #toBytes(Object)}序列化的数据
+     *
+     * @param bytes 数据
+     * @param type  类型
+     */
+    public static <T> T fromBytes(byte[] bytes, Type type) {
+        if (bytes == null)
+            return null;
+
+        MessagePackReader reader = new MessagePackReader(bytes);
+        try {
+            TypeAdapter<T> adapter = getAdapter(type);
+            T value = adapter.read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT)
+                throw new JsonSyntaxException("Unexpected data after the MessagePack value: " + reader);
+            return value;
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+
     public static <T> T fromMap(Map map, Type type) {
         if (map == null) {
             return null;
         } else {
-            String json = toJson(map);
-            return fromJson(json, type);
+            return convert(map, type);
         }
     }
 
+    /**
+     * 对象转换为Map，数字统一转换为Double，和解析Json字符串的结果一致
+     *
+     * @param object 对象
+     */
+    public static Map<String, Object> objectToMap(Object object) {
+        if (object == null)
+            return null;
+
+        return convert(object, MAP_TYPE);
+    }
+
+    /**
+     * 对象之间转换，通过Gson的树结构直接转换，不生成中间的Json字符串
+     *
+     * @param object 源对象
+     * @param type   目标类型
+     */
+    public static <T> T convert(Object object, Type type) {
+        if (object == null)
+            return null;
+
+        JsonElement tree = GSON.toJsonTree(object);
+        return GSON.fromJson(tree, type);
+    }
+
     public static <T> List<T> toList(String json) {
         try {
-            return GSON.fromJson(json, new TypeToken<List<T>>() {
-            }.getType());
+            return fromJson(json, LIST_TYPE);
         } catch (JsonSyntaxException e) {
             e.printStackTrace();
         }
@@ -70,7 +237,473 @@ public class JsonUtils {
     }
 
     public static <T> Map<String, T> toMap(String gsonString) {
-        return GSON.fromJson(gsonString, new TypeToken<Map<String, T>>() {
-        }.getType());
+        return fromJson(gsonString, MAP_TYPE);
+    }
+
+    /**
+     * 解析列表，元素直接解析为指定类型，不需要再通过{@link #fromMap(Map, Type)}转换
+     *
+     * @param json         Json数组
+     * @param elementClass 元素类型
+     */
+    public static <T> List<T> toList(String json, Class<T> elementClass) {
+        try {
+            return fromJson(json, listOf(elementClass));
+        } catch (JsonSyntaxException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * 解析Map，值直接解析为指定类型
+     *
+     * @param json       Json对象
+     * @param valueClass 值类型
+     */
+    public static <V> Map<String, V> toMap(String json, Class<V> valueClass) {
+        return fromJson(json, mapOf(valueClass));
+    }
+
+    /**
+     * 从输入中解析，不生成中间字符串，读取后不关闭输入
+     *
+     * @param reader 输入
+     * @param type   类型
+     */
+    public static <T> T fromJson(Reader reader, Type type) {
+        return GSON.fromJson(reader, JsonUtils.<T>getTypeToken(type));
+    }
+
+    /**
+     * 从输入中解析列表，读取完成后关闭输入；很长的数组使用{@link #iterateArray(Reader, Type)}逐个读取
+     *
+     * @param reader       Json数组
+     * @param elementClass 元素类型
+     */
+    public static <T> List<T> toList(Reader reader, Class<T> elementClass) {
+        return readAndClose(reader, listOf(elementClass));
+    }
+
+    /**
+     * 从输入中解析列表，读取完成后关闭输入
+     *
+     * @param in           Json数组，UTF-8编码
+     * @param elementClass 元素类型
+     */
+    public static <T> List<T> toList(InputStream in, Class<T> elementClass) {
+        return readAndClose(newReader(in), listOf(elementClass));
+    }
+
+    /**
+     * 从文件中解析列表
+     *
+     * @param file         Json数组文件，UTF-8编码
+     * @param elementClass 元素类型
+     */
+    public static <T> List<T> toList(File file, Class<T> elementClass) {
+        return readAndClose(newReader(file), listOf(elementClass));
+    }
+
+    /**
+     * 从输入中解析Map，读取完成后关闭输入
+     *
+     * @param reader     Json对象
+     * @param valueClass 值类型
+     */
+    public static <V> Map<String, V> toMap(Reader reader, Class<V> valueClass) {
+        return readAndClose(reader, mapOf(valueClass));
+    }
+
+    /**
+     * 从输入中解析Map，读取完成后关闭输入
+     *
+     * @param in         Json对象，UTF-8编码
+     * @param valueClass 值类型
+     */
+    public static <V> Map<String, V> toMap(InputStream in, Class<V> valueClass) {
+        return readAndClose(newReader(in), mapOf(valueClass));
+    }
+
+    /**
+     * 从文件中解析Map
+     *
+     * @param file       Json对象文件，UTF-8编码
+     * @param valueClass 值类型
+     */
+    public static <V> Map<String, V> toMap(File file, Class<V> valueClass) {
+        return readAndClose(newReader(file), mapOf(valueClass));
+    }
+
+    /**
+     * 按路径提取值，只扫描到目标位置，不解析整个Json，例如extract(json, "data.items[0].id")
+     *
+     * @param json Json内容
+     * @param path 路径，格式见{@link JsonPath}
+     *
+     * @return 没有找到时返回null，值为null时返回JsonNull
+     */
+    public static JsonElement extract(String json, String path) {
+        return extract(json, path, JsonElement.class);
+    }
+
+    /**
+     * 按路径提取值，并解析为指定类型
+     *
+     * @param json Json内容
+     * @param path 路径，格式见{@link JsonPath}
+     * @param type 值的类型
+     *
+     * @return 没有找到时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T extract(String json, String path, Type type) {
+        if (json == null)
+            return null;
+
+        return (T) extract(new StringReader(json), new String[]{path}, new Type[]{type})[0];
+    }
+
+    /**
+     * 按路径提取值，找到后停止读取，读取完成后关闭输入
+     *
+     * @param in   Json内容，UTF-8编码
+     * @param path 路径，格式见{@link JsonPath}
+     */
+    public static JsonElement extract(InputStream in, String path) {
+        return extract(in, path, JsonElement.class);
+    }
+
+    /**
+     * 按路径提取值并解析为指定类型，找到后停止读取，读取完成后关闭输入
+     *
+     * @param in   Json内容，UTF-8编码
+     * @param path 路径，格式见{@link JsonPath}
+     * @param type 值的类型
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T extract(InputStream in, String path, Type type) {
+        return (T) extract(newReader(in), new String[]{path}, new Type[]{type})[0];
+    }
+
+    /**
+     * 一次扫描提取多个路径的值，全部找到后停止扫描
+     *
+     * @param json  Json内容
+     * @param paths 路径，格式见{@link JsonPath}
+     *
+     * @return 和路径顺序一致的值，没有找到的路径为null
+     */
+    public static JsonElement[] extractAll(String json, String... paths) {
+        if (json == null)
+            return new JsonElement[paths.length];
+
+        return toElements(extract(new StringReader(json), paths, null));
+    }
+
+    /**
+     * 一次扫描提取多个路径的值，全部找到后停止读取，读取完成后关闭输入
+     *
+     * @param in    Json内容，UTF-8编码
+     * @param paths 路径，格式见{@link JsonPath}
+     *
+     * @return 和路径顺序一致的值，没有找到的路径为null
+     */
+    public static JsonElement[] extractAll(InputStream in, String... paths) {
+        return toElements(extract(newReader(in), paths, null));
+    }
+
+    private static Object[] extract(Reader reader, String[] paths, Type[] types) {
+        JsonPath[] compiledPaths = new JsonPath[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            compiledPaths[i] = JsonPath.compile(paths[i]);
+        }
+
+        JsonReader jsonReader = GSON.newJsonReader(reader);
+        jsonReader.setLenient(true);
+        try {
+            try {
+                jsonReader.peek();
+            } catch (EOFException e) {
+                //内容为空时和Gson一致，当作没有值
+                return new Object[paths.length];
+            }
+            return new JsonPathExtractor(GSON, compiledPaths, types).extract(jsonReader);
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (EOFException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        } finally {
+            try {
+                jsonReader.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static JsonElement[] toElements(Object[] values) {
+        JsonElement[] elements = new JsonElement[values.length];
+        System.arraycopy(values, 0, elements, 0, values.length);
+        return elements;
+    }
+
+    /**
+     * 获取List&lt;T&gt;类型，类型对象会被缓存，例如：
+     * <pre>
+     * List&lt;Foo&gt; list = JsonUtils.fromJson(json, JsonUtils.listOf(Foo.class));
+     * </pre>
+     *
+     * @param elementClass 元素类型
+     */
+    public static Type listOf(Class<?> elementClass) {
+        return TYPES.listOf(elementClass).getType();
+    }
+
+    /**
+     * 获取Map&lt;String, V&gt;类型，类型对象会被缓存
+     *
+     * @param valueClass 值类型
+     */
+    public static Type mapOf(Class<?> valueClass) {
+        return TYPES.mapOf(valueClass).getType();
+    }
+
+    /**
+     * 获取参数化类型，类型对象会被缓存，例如typeOf(Map.class, String.class, listOf(Foo.class))
+     *
+     * @param rawClass      原始类型
+     * @param typeArguments 泛型参数
+     */
+    public static Type typeOf(Class<?> rawClass, Type... typeArguments) {
+        return TYPES.parameterized(rawClass, typeArguments).getType();
+    }
+
+    /**
+     * 获取类型对应的解析器，解析器会被缓存
+     *
+     * @param type 类型
+     */
+    public static <T> TypeAdapter<T> getAdapter(Type type) {
+        return TYPES.getAdapter(type);
+    }
+
+    /** 获取类型缓存 */
+    public static JsonTypes getTypes() {
+        return TYPES;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TypeToken<T> getTypeToken(Type type) {
+        return (TypeToken<T>) TYPES.getToken(type);
+    }
+
+    /**
+     * 流式读取Json数组，逐个解析元素，内存中只保留当前元素，用于解析很长的数组
+     *
+     * @param reader      数组内容，读取完成或者调用{@link JsonArrayIterator#close()}后关闭
+     * @param elementType 元素类型
+     */
+    public static <T> JsonArrayIterator<T> iterateArray(Reader reader, Type elementType) {
+        TypeAdapter<T> adapter = getAdapter(elementType);
+        JsonReader jsonReader = GSON.newJsonReader(reader);
+        //和Gson.fromJson一致，兼容不规范的Json
+        jsonReader.setLenient(true);
+        return new JsonArrayIterator<>(jsonReader, adapter);
+    }
+
+    /**
+     * 流式读取Json数组
+     *
+     * @param in          数组内容，UTF-8编码
+     * @param elementType 元素类型
+     */
+    public static <T> JsonArrayIterator<T> iterateArray(InputStream in, Type elementType) {
+        return iterateArray(newReader(in), elementType);
+    }
+
+    /**
+     * 流式读取Json数组
+     *
+     * @param file        数组文件，UTF-8编码
+     * @param elementType 元素类型
+     */
+    public static <T> JsonArrayIterator<T> iterateArray(File file, Type elementType) {
+        return iterateArray(newReader(file), elementType);
+    }
+
+    /**
+     * 流式读取Json数组，每解析一个元素回调一次
+     *
+     * @param reader      数组内容，读取完成后关闭
+     * @param elementType 元素类型
+     * @param callback    回调，返回false时停止读取
+     *
+     * @return 读取的元素数量
+     */
+    public static <T> int readArray(Reader reader, Type elementType, JsonArrayCallback<T> callback) {
+        JsonArrayIterator<T> iterator = iterateArray(reader, elementType);
+        return readArray(iterator, callback);
+    }
+
+    /**
+     * 流式读取Json数组，每解析一个元素回调一次
+     *
+     * @param in          数组内容，UTF-8编码
+     * @param elementType 元素类型
+     * @param callback    回调，返回false时停止读取
+     *
+     * @return 读取的元素数量
+     */
+    public static <T> int readArray(InputStream in, Type elementType, JsonArrayCallback<T> callback) {
+        JsonArrayIterator<T> iterator = iterateArray(in, elementType);
+        return readArray(iterator, callback);
+    }
+
+    /**
+     * 流式读取Json数组，每解析一个元素回调一次
+     *
+     * @param file        数组文件，UTF-8编码
+     * @param elementType 元素类型
+     * @param callback    回调，返回false时停止读取
+     *
+     * @return 读取的元素数量
+     */
+    public static <T> int readArray(File file, Type elementType, JsonArrayCallback<T> callback) {
+        JsonArrayIterator<T> iterator = iterateArray(file, elementType);
+        return readArray(iterator, callback);
+    }
+
+    /**
+     * 流式写入Json数组，元素逐个序列化到输出中，调用{@link JsonArrayWriter#close()}结束数组并关闭输出
+     *
+     * @param writer      输出
+     * @param elementType 元素类型
+     */
+    public static <T> JsonArrayWriter<T> newArrayWriter(Writer writer, Type elementType) {
+        TypeAdapter<T> adapter = getAdapter(elementType);
+        return new JsonArrayWriter<>(newJsonWriter(writer), adapter);
+    }
+
+    /**
+     * 流式写入Json数组
+     *
+     * @param out         输出，UTF-8编码
+     * @param elementType 元素类型
+     */
+    public static <T> JsonArrayWriter<T> newArrayWriter(OutputStream out, Type elementType) {
+        return newArrayWriter(newWriter(out), elementType);
+    }
+
+    /**
+     * 流式写入Json数组
+     *
+     * @param file        文件，UTF-8编码，已存在时覆盖
+     * @param elementType 元素类型
+     */
+    public static <T> JsonArrayWriter<T> newArrayWriter(File file, Type elementType) {
+        return newArrayWriter(newWriter(file), elementType);
+    }
+
+    /**
+     * 写入换行分隔的Json（NDJSON），每行一个元素，调用{@link NdJsonWriter#close()}关闭输出
+     *
+     * @param writer      输出
+     * @param elementType 元素类型
+     */
+    public static <T> NdJsonWriter<T> newNdJsonWriter(Writer writer, Type elementType) {
+        TypeAdapter<T> adapter = getAdapter(elementType);
+        return new NdJsonWriter<>(writer, newJsonWriter(writer), adapter);
+    }
+
+    /**
+     * 写入换行分隔的Json（NDJSON）
+     *
+     * @param out         输出，UTF-8编码
+     * @param elementType 元素类型
+     */
+    public static <T> NdJsonWriter<T> newNdJsonWriter(OutputStream out, Type elementType) {
+        return newNdJsonWriter(newWriter(out), elementType);
+    }
+
+    /**
+     * 写入换行分隔的Json（NDJSON）
+     *
+     * @param file        文件，UTF-8编码
+     * @param append      是否追加到文件末尾
+     * @param elementType 元素类型
+     */
+    public static <T> NdJsonWriter<T> newNdJsonWriter(File file, boolean append, Type elementType) {
+        try {
+            return newNdJsonWriter(new FileOutputStream(file, append), elementType);
+        } catch (FileNotFoundException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    private static JsonWriter newJsonWriter(Writer writer) {
+        try {
+            return GSON.newJsonWriter(writer);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    private static <T> T readAndClose(Reader reader, Type type) {
+        try {
+            return fromJson(reader, type);
+        } finally {
+            try {
+                reader.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static Reader newReader(InputStream in) {
+        return new BufferedReader(new InputStreamReader(in, UTF_8));
+    }
+
+    private static Reader newReader(File file) {
+        try {
+            return newReader(new FileInputStream(file));
+        } catch (FileNotFoundException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    private static Writer newWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+    }
+
+    private static Writer newWriter(File file) {
+        try {
+            return newWriter(new FileOutputStream(file));
+        } catch (FileNotFoundException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    private static void closeQuietly(Writer writer) {
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static <T> int readArray(JsonArrayIterator<T> iterator, JsonArrayCallback<T> callback) {
+        try {
+            while (iterator.hasNext()) {
+                int index = iterator.getIndex();
+                if (!callback.onElement(index, iterator.next()))
+                    return index + 1;
+            }
+            return iterator.getIndex();
+        } finally {
+            iterator.close();
+        }
     }
 }
@@ -3,6 +3,21 @@ package com.zhang.library.utils;
 import android.text.TextUtils;
 import android.util.Log;
 
+import com.zhang.library.utils.log.AsyncLogger;
+import com.zhang.library.utils.log.CallSite;
+import com.zhang.library.utils.log.CallerResolver;
+import com.zhang.library.utils.log.LogFlightRecorder;
+import com.zhang.library.utils.log.LogFormatter;
+import com.zhang.library.utils.log.LogLevelTable;
+import com.zhang.library.utils.log.LogRateLimiter;
+import com.zhang.library.utils.log.KeyValueFormatter;
+import com.zhang.library.utils.log.LogSupplier;
+import com.zhang.library.utils.log.LogcatSink;
+import com.zhang.library.utils.log.OverflowPolicy;
+import com.zhang.library.utils.log.StructuredFormatter;
+
+import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Locale;
@@ -16,10 +31,42 @@ public final class LogUtils {
 
     private static final String TAG = "LogUtils";
 
+    public static final int VERBOSE = Log.VERBOSE;
+    public static final int DEBUG = Log.DEBUG;
+    public static final int INFO = Log.INFO;
+    public static final int WARN = Log.WARN;
+    public static final int ERROR = Log.ERROR;
+
     /** 是否打印日志 */
     private static boolean isDebug;
     /** 是否打印追踪信息，输出打印日志的位置 */
     private static boolean isTrack;
+    /** 异步日志，为null时在调用线程直接输出 */
+    private static volatile AsyncLogger sAsyncLogger;
+    /** 日志限流，为null时不限流 */
+    private static volatile LogRateLimiter sRateLimiter;
+    /** 输出被限流丢弃的日志数量 */
+    private static final LogRateLimiter.SuppressedCallback SUPPRESSED_CALLBACK = new LogRateLimiter.SuppressedCallback() {
+        @Override
+        public void onSuppressed(int priority, String tag, Object site, int count) {
+            output(priority, tag, site instanceof CallSite ? (CallSite) site : null, "%d messages suppressed", new Object[]{count});
+        }
+    };
+    /** 结构化日志的输出格式 */
+    private static volatile StructuredFormatter sStructuredFormatter = new KeyValueFormatter();
+    /** 飞行记录器，为null时不记录 */
+    private static volatile LogFlightRecorder sFlightRecorder;
+    /** 标签等级表 */
+    private static volatile LogLevelTable sLevelTable = LogLevelTable.EMPTY;
+    /** 等级配置文件 */
+    private static File sLevelConfigFile;
+    /** 等级配置文件的修改时间 */
+    private static long sLevelConfigModified;
+
+    static {
+        CallerResolver.skip(LogUtils.class);
+        CallerResolver.skip(StructuredLog.class);
+    }
 
     private LogUtils() {
         isDebug = false;
@@ -56,38 +103,322 @@ public final class LogUtils {
         LogUtils.isDebug = isDebug;
     }
 
-    private static String createLog(StackTraceElement[] traceElements, String msg) {
-        String methodName = getMethodName(traceElements);
-        int lineNumber = getLineNumber(traceElements);
-        return new StringBuilder()
-                .append("[")
-                .append(methodName)
-                .append(":")
-                .append(lineNumber)
-                .append("] ")
-                .append(msg)
-                .toString();
+    /**
+     * 开启异步日志，日志输出到Logcat
+     *
+     * @param capacity 队列长度
+     * @param policy   队列写满时的处理策略
+     */
+    public static void startAsync(int capacity, OverflowPolicy policy) {
+        startAsync(new AsyncLogger(capacity, policy).addSink(new LogcatSink()));
     }
 
-    //<editor-fold desc="verbose">
-    public static void verbose(String msg) {
-        verbose(null, msg);
+    /**
+     * 开启异步日志，日志的格式化和输出在{@link AsyncLogger}的消费线程中完成；
+     * logger上次停止时还没有输出完，无法启动时保持原来的设置
+     *
+     * @param logger 异步日志，输出端由调用方添加
+     */
+    public static synchronized void startAsync(AsyncLogger logger) {
+        if (logger == null)
+            return;
+
+        AsyncLogger old = sAsyncLogger;
+        if (!logger.start())
+            return;
+        sAsyncLogger = logger;
+        if (old != null && old != logger)
+            old.stop(1000);
     }
 
-    public static void verbose(String tag, String msg) {
-        if (!isDebug)
+    /** 关闭异步日志，恢复在调用线程直接输出 */
+    public static synchronized void stopAsync() {
+        AsyncLogger logger = sAsyncLogger;
+        sAsyncLogger = null;
+        if (logger != null)
+            logger.stop(1000);
+    }
+
+    /** 获取当前的异步日志，未开启时返回null */
+    public static AsyncLogger getAsyncLogger() {
+        return sAsyncLogger;
+    }
+
+    /**
+     * 设置标签的日志等级，配置了等级的标签不受{@link #init(boolean)}开关的影响
+     *
+     * @param tag   日志标签
+     * @param level 日志等级，例如{@link Log#VERBOSE}，{@link LogLevelTable#OFF}表示关闭，
+     *              {@link LogLevelTable#NOT_SET}表示移除配置
+     */
+    public static synchronized void setLevel(String tag, int level) {
+        sLevelTable = sLevelTable.with(tag, level);
+    }
+
+    /**
+     * 设置默认的日志等级，对没有单独配置等级的标签生效
+     *
+     * @param level 日志等级
+     */
+    public static synchronized void setDefaultLevel(int level) {
+        sLevelTable = sLevelTable.withDefaultLevel(level);
+    }
+
+    /**
+     * 设置标签等级表
+     *
+     * @param table 标签等级表
+     */
+    public static synchronized void setLevelTable(LogLevelTable table) {
+        sLevelTable = table == null ? LogLevelTable.EMPTY : table;
+    }
+
+    /** 获取标签等级表 */
+    public static LogLevelTable getLevelTable() {
+        return sLevelTable;
+    }
+
+    /**
+     * 从配置文件加载标签等级，格式见{@link LogLevelTable}
+     *
+     * @param file 配置文件
+     *
+     * @return <b>true:</b>加载成功
+     */
+    public static synchronized boolean loadLevelConfig(File file) {
+        if (file == null)
+            return false;
+
+        sLevelConfigFile = file;
+        sLevelConfigModified = 0;
+        return reloadLevelConfig();
+    }
+
+    /**
+     * 配置文件有修改时重新加载
+     *
+     * @return <b>true:</b>重新加载成功
+     */
+    public static synchronized boolean reloadLevelConfig() {
+        File file = sLevelConfigFile;
+        if (file == null || !file.isFile())
+            return false;
+
+        long modified = file.lastModified();
+        if (modified == sLevelConfigModified)
+            return false;
+
+        try {
+            sLevelTable = LogLevelTable.load(file);
+            sLevelConfigModified = modified;
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return false;
+    }
+
+    /**
+     * 设置日志限流，用于滚动、列表绑定等高频调用的位置，为null时不限流
+     *
+     * @param limiter 日志限流
+     */
+    public static void setRateLimiter(LogRateLimiter limiter) {
+        LogRateLimiter previous = sRateLimiter;
+        sRateLimiter = limiter;
+        if (previous != null && previous != limiter)
+            previous.flush(SUPPRESSED_CALLBACK);
+    }
+
+    /** 获取日志限流 */
+    public static LogRateLimiter getRateLimiter() {
+        return sRateLimiter;
+    }
+
+    /**
+     * 设置飞行记录器，记录所有等级的日志，不受日志开关和等级的影响，为null时不记录
+     *
+     * @param recorder 飞行记录器
+     */
+    public static void setFlightRecorder(LogFlightRecorder recorder) {
+        sFlightRecorder = recorder;
+    }
+
+    /** 获取飞行记录器 */
+    public static LogFlightRecorder getFlightRecorder() {
+        return sFlightRecorder;
+    }
+
+    /**
+     * 获取结构化日志，例如：
+     * <pre>
+     * LogUtils.at(LogUtils.INFO).tag(TAG).kv("userId", id).kv("latencyMs", ms).log("loaded");
+     * </pre>
+     *
+     * @param priority 日志等级
+     */
+    public static StructuredLog at(int priority) {
+        //标签在之后设置，此处只做粗略判断，输出时再按标签判断
+        boolean enabled = isEnabled(priority, null) || priority >= sLevelTable.getMinLevel();
+        return StructuredLog.obtain(priority, enabled);
+    }
+
+    /**
+     * 设置结构化日志的输出格式，默认为{@link KeyValueFormatter}
+     *
+     * @param formatter 输出格式，例如{@link com.zhang.library.utils.log.JsonFormatter}
+     */
+    public static void setStructuredFormatter(StructuredFormatter formatter) {
+        sStructuredFormatter = formatter == null ? new KeyValueFormatter() : formatter;
+    }
+
+    /** 获取结构化日志的输出格式 */
+    public static StructuredFormatter getStructuredFormatter() {
+        return sStructuredFormatter;
+    }
+
+    /**
+     * 输出结构化日志，调用位置作为字段由log格式化，不加前缀
+     *
+     * @param priority 日志等级
+     * @param tag      日志标签
+     * @param message  日志内容
+     * @param log      结构化日志
+     */
+    static void printStructured(int priority, String tag, String message, StructuredLog log) {
+        print(priority, tag, message, null, log);
+    }
+
+    /**
+     * 指定标签和等级的日志是否需要输出
+     *
+     * @param priority 日志等级
+     * @param tag      日志标签
+     */
+    public static boolean isLoggable(int priority, String tag) {
+        LogLevelTable table = sLevelTable;
+        int level = table.getLevel(tag);
+        if (level != LogLevelTable.NOT_SET)
+            return priority >= level;
+
+        return isDebug && priority >= table.getDefaultLevel();
+    }
+
+    /**
+     * 指定等级的日志是否需要处理（输出或者被飞行记录器记录），基本类型参数的重载和{@link LogSupplier}的xxxLazy方法先判断此处，
+     * 不处理时不会装箱、不创建参数数组，也不会格式化
+     *
+     * @param priority 日志等级
+     * @param tag      日志标签
+     */
+    private static boolean isEnabled(int priority, String tag) {
+        return sFlightRecorder != null || isOutputEnabled(priority, tag);
+    }
+
+    /**
+     * 指定等级的日志是否需要输出
+     *
+     * @param priority 日志等级
+     * @param tag      日志标签，为空并且开启追踪时，标签要在获取调用栈后才能确定，此处只做粗略判断
+     */
+    private static boolean isOutputEnabled(int priority, String tag) {
+        LogLevelTable table = sLevelTable;
+        //发布版本没有单独配置标签时都不输出，不需要查表
+        if (!isDebug && table.size() == 0)
+            return false;
+
+        if (!TextUtils.isEmpty(tag))
+            return isLoggable(priority, tag);
+
+        if (!isTrack)
+            return isLoggable(priority, TAG);
+
+        return (isDebug && priority >= table.getDefaultLevel()) || priority >= table.getMinLevel();
+    }
+
+    /**
+     * 输出日志
+     *
+     * @param priority 日志等级
+     * @param tag      日志标签
+     * @param format   日志内容或格式
+     * @param args     格式参数
+     */
+    private static void print(int priority, String tag, String format, Object[] args) {
+        print(priority, tag, format, args, null);
+    }
+
+    /**
+     * 输出日志
+     *
+     * @param priority   日志等级
+     * @param tag        日志标签
+     * @param format     日志内容或格式
+     * @param args       格式参数
+     * @param structured 结构化日志，不为空时在确定调用位置后格式化
+     */
+    private static void print(int priority, String tag, String format, Object[] args, StructuredLog structured) {
+        LogFlightRecorder recorder = sFlightRecorder;
+        boolean enabled = isOutputEnabled(priority, tag);
+        if (!enabled && recorder == null)
             return;
 
-        if (!isTrack) {
-            Log.v(TextUtils.isEmpty(tag) ? TAG : tag, msg);
+        CallSite site = null;
+        //只是记录时不获取调用栈
+        if (isTrack && enabled) {
+            site = CallerResolver.resolve();
+            if (TextUtils.isEmpty(tag)) {
+                tag = site.getTag();
+                enabled = isLoggable(priority, tag);
+            }
+        } else if (TextUtils.isEmpty(tag)) {
+            tag = TAG;
+        }
+
+        if (structured != null)
+            format = structured.format(format, site);
+
+        if (recorder != null) {
+            if (site == null)
+                recorder.record(priority, tag, null, -1, format, args);
+            else
+                recorder.record(priority, tag, site.getMethod(), site.getLine(), format, args);
+        }
+        if (!enabled)
             return;
+
+        LogRateLimiter limiter = sRateLimiter;
+        if (limiter != null) {
+            //没有追踪信息时，带参数的日志以格式区分调用位置，拼接的日志以标签区分；同一位置不同等级分开计算
+            if (!limiter.acquire(priority, tag, site != null ? site : (args != null && format != null ? format : tag), SUPPRESSED_CALLBACK))
+                return;
+        }
+
+        //结构化日志的调用位置已经在字段中
+        output(priority, tag, structured == null ? site : null, format, args);
+    }
+
+    private static void output(int priority, String tag, CallSite site, String format, Object[] args) {
+        AsyncLogger logger = sAsyncLogger;
+        if (logger != null) {
+            //被丢弃的日志由AsyncLogger计数，只有异步已停止时才回退到直接输出
+            String methodName = site == null ? null : site.getMethod();
+            int lineNumber = site == null ? -1 : site.getLine();
+            if (logger.log(priority, tag, methodName, lineNumber, format, args) || logger.isRunning())
+                return;
         }
 
-        StackTraceElement[] traceElements = new Throwable().getStackTrace();
-        if (TextUtils.isEmpty(tag))
-            tag = getClassName(traceElements);
-        String log = createLog(traceElements, msg);
-        Log.v(tag, log);
+        //调用位置、内容和参数写入同一个缓冲区，只生成一次字符串
+        Log.println(priority, tag, LogFormatter.format(site == null ? null : site.getLabel(), format, args));
+    }
+
+    //<editor-fold desc="verbose">
+    public static void verbose(String msg) {
+        verbose(null, msg);
+    }
+
+    public static void verbose(String tag, String msg) {
+        print(Log.VERBOSE, tag, msg, null);
     }
 
     public static void verbose(String format, Object... args) {
@@ -95,12 +426,36 @@ public final class LogUtils {
     }
 
     public static void verbose(String tag, String format, Object... args) {
-        String msg;
-        if (TextUtils.isEmpty(format))
-            msg = " ";
-        else
-            msg = args == null || args.length <= 0 ? format : String.format(Locale.US, format, args);
-        verbose(tag, msg);
+        print(Log.VERBOSE, tag, format, args);
+    }
+
+    public static void verboseLazy(LogSupplier supplier) {
+        verboseLazy(null, supplier);
+    }
+
+    public static void verboseLazy(String tag, LogSupplier supplier) {
+        if (isEnabled(Log.VERBOSE, tag))
+            print(Log.VERBOSE, tag, supplier == null ? null : supplier.get(), null);
+    }
+
+    public static void verbose(String tag, String format, int arg) {
+        if (isEnabled(Log.VERBOSE, tag))
+            print(Log.VERBOSE, tag, format, new Object[]{arg});
+    }
+
+    public static void verbose(String tag, String format, long arg) {
+        if (isEnabled(Log.VERBOSE, tag))
+            print(Log.VERBOSE, tag, format, new Object[]{arg});
+    }
+
+    public static void verbose(String tag, String format, double arg) {
+        if (isEnabled(Log.VERBOSE, tag))
+            print(Log.VERBOSE, tag, format, new Object[]{arg});
+    }
+
+    public static void verbose(String tag, String format, long arg1, long arg2) {
+        if (isEnabled(Log.VERBOSE, tag))
+            print(Log.VERBOSE, tag, format, new Object[]{arg1, arg2});
     }
     //</editor-fold>
 
@@ -110,19 +465,7 @@ public final class LogUtils {
     }
 
     public static void debug(String tag, String msg) {
-        if (!isDebug)
-            return;
-
-        if (!isTrack) {
-            Log.d(TextUtils.isEmpty(tag) ? TAG : tag, msg);
-            return;
-        }
-
-        StackTraceElement[] traceElements = new Throwable().getStackTrace();
-        if (TextUtils.isEmpty(tag))
-            tag = getClassName(traceElements);
-        String log = createLog(traceElements, msg);
-        Log.d(tag, log);
+        print(Log.DEBUG, tag, msg, null);
     }
 
     public static void debug(String format, Object... args) {
@@ -130,12 +473,36 @@ public final class LogUtils {
     }
 
     public static void debug(String tag, String format, Object... args) {
-        String msg;
-        if (TextUtils.isEmpty(format))
-            msg = " ";
-        else
-            msg = args == null || args.length <= 0 ? format : String.format(Locale.US, format, args);
-        debug(tag, msg);
+        print(Log.DEBUG, tag, format, args);
+    }
+
+    public static void debugLazy(LogSupplier supplier) {
+        debugLazy(null, supplier);
+    }
+
+    public static void debugLazy(String tag, LogSupplier supplier) {
+        if (isEnabled(Log.DEBUG, tag))
+            print(Log.DEBUG, tag, supplier == null ? null : supplier.get(), null);
+    }
+
+    public static void debug(String tag, String format, int arg) {
+        if (isEnabled(Log.DEBUG, tag))
+            print(Log.DEBUG, tag, format, new Object[]{arg});
+    }
+
+    public static void debug(String tag, String format, long arg) {
+        if (isEnabled(Log.DEBUG, tag))
+            print(Log.DEBUG, tag, format, new Object[]{arg});
+    }
+
+    public static void debug(String tag, String format, double arg) {
+        if (isEnabled(Log.DEBUG, tag))
+            print(Log.DEBUG, tag, format, new Object[]{arg});
+    }
+
+    public static void debug(String tag, String format, long arg1, long arg2) {
+        if (isEnabled(Log.DEBUG, tag))
+            print(Log.DEBUG, tag, format, new Object[]{arg1, arg2});
     }
     //</editor-fold>
 
@@ -145,19 +512,7 @@ public final class LogUtils {
     }
 
     public static void info(String tag, String msg) {
-        if (!isDebug)
-            return;
-
-        if (!isTrack) {
-            Log.i(TextUtils.isEmpty(tag) ? TAG : tag, msg);
-            return;
-        }
-
-        StackTraceElement[] traceElements = new Throwable().getStackTrace();
-        if (TextUtils.isEmpty(tag))
-            tag = getClassName(traceElements);
-        String log = createLog(traceElements, msg);
-        Log.i(tag, log);
+        print(Log.INFO, tag, msg, null);
     }
 
     public static void info(String format, Object... args) {
@@ -165,12 +520,36 @@ public final class LogUtils {
     }
 
     public static void info(String tag, String format, Object... args) {
-        String msg;
-        if (TextUtils.isEmpty(format))
-            msg = " ";
-        else
-            msg = args == null || args.length <= 0 ? format : String.format(Locale.US, format, args);
-        info(tag, msg);
+        print(Log.INFO, tag, format, args);
+    }
+
+    public static void infoLazy(LogSupplier supplier) {
+        infoLazy(null, supplier);
+    }
+
+    public static void infoLazy(String tag, LogSupplier supplier) {
+        if (isEnabled(Log.INFO, tag))
+            print(Log.INFO, tag, supplier == null ? null : supplier.get(), null);
+    }
+
+    public static void info(String tag, String format, int arg) {
+        if (isEnabled(Log.INFO, tag))
+            print(Log.INFO, tag, format, new Object[]{arg});
+    }
+
+    public static void info(String tag, String format, long arg) {
+        if (isEnabled(Log.INFO, tag))
+            print(Log.INFO, tag, format, new Object[]{arg});
+    }
+
+    public static void info(String tag, String format, double arg) {
+        if (isEnabled(Log.INFO, tag))
+            print(Log.INFO, tag, format, new Object[]{arg});
+    }
+
+    public static void info(String tag, String format, long arg1, long arg2) {
+        if (isEnabled(Log.INFO, tag))
+            print(Log.INFO, tag, format, new Object[]{arg1, arg2});
     }
     //</editor-fold>
 
@@ -180,19 +559,7 @@ public final class LogUtils {
     }
 
     public static void warn(String tag, String msg) {
-        if (!isDebug)
-            return;
-
-        if (!isTrack) {
-            Log.w(TextUtils.isEmpty(tag) ? TAG : tag, msg);
-            return;
-        }
-
-        StackTraceElement[] traceElements = new Throwable().getStackTrace();
-        if (TextUtils.isEmpty(tag))
-            tag = getClassName(traceElements);
-        String log = createLog(traceElements, msg);
-        Log.w(tag, log);
+        print(Log.WARN, tag, msg, null);
     }
 
     public static void warn(String format, Object... args) {
@@ -200,15 +567,37 @@ public final class LogUtils {
     }
 
     public static void warn(String tag, String format, Object... args) {
-        String msg;
-        if (TextUtils.isEmpty(format))
-            msg = " ";
-        else
-            msg = args == null || args.length <= 0 ? format : String.format(Locale.US, format, args);
+        print(Log.WARN, tag, format, args);
+    }
+
+    public static void warnLazy(LogSupplier supplier) {
+        warnLazy(null, supplier);
+    }
+
+    public static void warnLazy(String tag, LogSupplier supplier) {
+        if (isEnabled(Log.WARN, tag))
+            print(Log.WARN, tag, supplier == null ? null : supplier.get(), null);
+    }
+
+    public static void warn(String tag, String format, int arg) {
+        if (isEnabled(Log.WARN, tag))
+            print(Log.WARN, tag, format, new Object[]{arg});
+    }
 
-        warn(tag, msg);
+    public static void warn(String tag, String format, long arg) {
+        if (isEnabled(Log.WARN, tag))
+            print(Log.WARN, tag, format, new Object[]{arg});
     }
 
+    public static void warn(String tag, String format, double arg) {
+        if (isEnabled(Log.WARN, tag))
+            print(Log.WARN, tag, format, new Object[]{arg});
+    }
+
+    public static void warn(String tag, String format, long arg1, long arg2) {
+        if (isEnabled(Log.WARN, tag))
+            print(Log.WARN, tag, format, new Object[]{arg1, arg2});
+    }
     //</editor-fold>
 
     //<editor-fold desc="error">
@@ -217,19 +606,7 @@ public final class LogUtils {
     }
 
     public static void error(String tag, String msg) {
-        if (!isDebug)
-            return;
-
-        if (!isTrack) {
-            Log.e(TextUtils.isEmpty(tag) ? TAG : tag, msg);
-            return;
-        }
-
-        StackTraceElement[] traceElements = new Throwable().getStackTrace();
-        if (TextUtils.isEmpty(tag))
-            tag = getClassName(traceElements);
-        String log = createLog(traceElements, msg);
-        Log.e(tag, log);
+        print(Log.ERROR, tag, msg, null);
     }
 
     public static void error(String format, Object... args) {
@@ -237,12 +614,36 @@ public final class LogUtils {
     }
 
     public static void error(String tag, String format, Object... args) {
-        String msg;
-        if (TextUtils.isEmpty(format))
-            msg = " ";
-        else
-            msg = args == null || args.length <= 0 ? format : String.format(Locale.US, format, args);
-        error(tag, msg);
+        print(Log.ERROR, tag, format, args);
+    }
+
+    public static void errorLazy(LogSupplier supplier) {
+        errorLazy(null, supplier);
+    }
+
+    public static void errorLazy(String tag, LogSupplier supplier) {
+        if (isEnabled(Log.ERROR, tag))
+            print(Log.ERROR, tag, supplier == null ? null : supplier.get(), null);
+    }
+
+    public static void error(String tag, String format, int arg) {
+        if (isEnabled(Log.ERROR, tag))
+            print(Log.ERROR, tag, format, new Object[]{arg});
+    }
+
+    public static void error(String tag, String format, long arg) {
+        if (isEnabled(Log.ERROR, tag))
+            print(Log.ERROR, tag, format, new Object[]{arg});
+    }
+
+    public static void error(String tag, String format, double arg) {
+        if (isEnabled(Log.ERROR, tag))
+            print(Log.ERROR, tag, format, new Object[]{arg});
+    }
+
+    public static void error(String tag, String format, long arg1, long arg2) {
+        if (isEnabled(Log.ERROR, tag))
+            print(Log.ERROR, tag, format, new Object[]{arg1, arg2});
     }
     //</editor-fold>
 
@@ -292,58 +693,6 @@ public final class LogUtils {
         return exceptionContent.toString();
     }
 
-    private static String getClassName(StackTraceElement[] traceElements) {
-        String fileName = null;
-        for (StackTraceElement element : traceElements) {
-            if (element.getClassName().equals(LogUtils.class.getName()))
-                continue;
-
-            fileName = element.getFileName();
-            int indexOf = fileName.indexOf(".java");
-            if (indexOf == -1) {
-                indexOf = fileName.indexOf(".Java");
-            }
-            if (indexOf == -1) {
-                return fileName;
-            }
-            fileName = fileName.substring(0, indexOf);
-            return fileName;
-        }
-
-        fileName = traceElements[2].getFileName();
-        int indexOf = fileName.indexOf(".java");
-        if (indexOf == -1) {
-            indexOf = fileName.indexOf(".Java");
-        }
-        if (indexOf == -1) {
-            return fileName;
-        }
-        fileName = fileName.substring(0, indexOf);
-        return fileName;
-    }
-
-    private static String getMethodName(StackTraceElement[] traceElements) {
-        for (StackTraceElement element : traceElements) {
-            if (element.getClassName().equals(LogUtils.class.getName()))
-                continue;
-
-            return element.getMethodName();
-        }
-
-        return traceElements[1].getMethodName();
-    }
-
-    private static int getLineNumber(StackTraceElement[] traceElements) {
-        for (StackTraceElement element : traceElements) {
-            if (element.getClassName().equals(LogUtils.class.getName()))
-                continue;
-
-            return element.getLineNumber();
-        }
-
-        return traceElements[1].getLineNumber();
-    }
-
     /** 获取日志来源 */
     private static String getLogSource() {
         StackTraceElement[] traceElements = new Throwable().fillInStackTrace().getStackTrace();
@@ -0,0 +1,233 @@
+package com.zhang.library.utils;
+
+import com.zhang.library.utils.log.CallSite;
+import com.zhang.library.utils.log.LogFields;
+import com.zhang.library.utils.log.StructuredFormatter;
+
+/**
+ * 结构化日志，通过{@link LogUtils#at(int)}获取，例如：
+ * <pre>
+ * LogUtils.at(LogUtils.INFO).tag(TAG).kv("userId", id).kv("latencyMs", ms).log("loaded");
+ * </pre>
+ * 对象按线程复用，基本类型的字段不装箱；日志不需要输出时所有方法直接返回。
+ * 对象从获取到{@link #log(String)}之间被占用，期间再次获取（例如字段的toString中又输出结构化日志）时创建新对象；
+ * 对象在{@link #log(String)}之后回收，不要保存引用。开启追踪时调用位置作为{@link #KEY_METHOD}和{@link #KEY_LINE}字段输出
+ *
+ * @author ZhangXiaoMing 2026-10-18 18:30 周日
+ */
+public final class StructuredLog implements LogFields {
+
+    /** 调用方法的字段名 */
+    public static final String KEY_METHOD = "method";
+    /** 调用行号的字段名 */
+    public static final String KEY_LINE = "line";
+
+    /** 不需要输出的日志，所有方法直接返回，不占用线程复用的对象 */
+    private static final StructuredLog DISABLED = new StructuredLog();
+
+    private static final ThreadLocal<StructuredLog> POOL = new ThreadLocal<StructuredLog>() {
+        @Override
+        protected StructuredLog initialValue() {
+            return new StructuredLog();
+        }
+    };
+
+    private int mPriority;
+    private String mTag;
+    private boolean isEnabled;
+    /** 是否被占用，从获取到{@link #log(String)}之间为true */
+    private boolean isInUse;
+
+    private int mSize;
+    private String[] mKeys = new String[8];
+    private int[] mTypes = new int[8];
+    private long[] mValues = new long[8];
+    private Object[] mObjects = new Object[8];
+
+    private final StringBuilder mBuilder = new StringBuilder(128);
+
+    private StructuredLog() {
+    }
+
+    /**
+     * 获取当前线程的结构化日志
+     *
+     * @param priority 日志等级
+     * @param enabled  是否可能输出，为false时所有方法直接返回
+     */
+    static StructuredLog obtain(int priority, boolean enabled) {
+        if (!enabled)
+            return DISABLED;
+
+        StructuredLog log = POOL.get();
+        if (log.isInUse)
+            log = new StructuredLog();
+
+        log.mPriority = priority;
+        log.mTag = null;
+        log.mSize = 0;
+        log.isEnabled = true;
+        log.isInUse = true;
+        return log;
+    }
+
+    /**
+     * 设置日志标签
+     *
+     * @param tag 日志标签
+     */
+    public StructuredLog tag(String tag) {
+        if (isEnabled)
+            mTag = tag;
+        return this;
+    }
+
+    public StructuredLog kv(String key, int value) {
+        if (isEnabled)
+            add(key, TYPE_LONG, value, null);
+        return this;
+    }
+
+    public StructuredLog kv(String key, long value) {
+        if (isEnabled)
+            add(key, TYPE_LONG, value, null);
+        return this;
+    }
+
+    public StructuredLog kv(String key, double value) {
+        if (isEnabled)
+            add(key, TYPE_DOUBLE, Double.doubleToRawLongBits(value), null);
+        return this;
+    }
+
+    public StructuredLog kv(String key, boolean value) {
+        if (isEnabled)
+            add(key, TYPE_BOOLEAN, value ? 1 : 0, null);
+        return this;
+    }
+
+    public StructuredLog kv(String key, String value) {
+        if (isEnabled)
+            add(key, TYPE_STRING, 0, value);
+        return this;
+    }
+
+    public StructuredLog kv(String key, Object value) {
+        if (isEnabled)
+            add(key, value instanceof String ? TYPE_STRING : TYPE_OBJECT, 0, value);
+        return this;
+    }
+
+    private void add(String key, int type, long value, Object object) {
+        if (mSize == mKeys.length) {
+            int capacity = mSize * 2;
+            String[] keys = new String[capacity];
+            int[] types = new int[capacity];
+            long[] values = new long[capacity];
+            Object[] objects = new Object[capacity];
+            System.arraycopy(mKeys, 0, keys, 0, mSize);
+            System.arraycopy(mTypes, 0, types, 0, mSize);
+            System.arraycopy(mValues, 0, values, 0, mSize);
+            System.arraycopy(mObjects, 0, objects, 0, mSize);
+            mKeys = keys;
+            mTypes = types;
+            mValues = values;
+            mObjects = objects;
+        }
+
+        mKeys[mSize] = key;
+        mTypes[mSize] = type;
+        mValues[mSize] = value;
+        mObjects[mSize] = object;
+        mSize++;
+    }
+
+    /** 输出日志 */
+    public void log() {
+        log(null);
+    }
+
+    /**
+     * 输出日志
+     *
+     * @param message 日志内容
+     */
+    public void log(String message) {
+        if (!isEnabled)
+            return;
+        if (mTag != null && LogUtils.getFlightRecorder() == null && !LogUtils.isLoggable(mPriority, mTag)) {
+            reset();
+            return;
+        }
+
+        try {
+            LogUtils.printStructured(mPriority, mTag, message, this);
+        } finally {
+            reset();
+        }
+    }
+
+    /**
+     * 格式化日志内容和字段
+     *
+     * @param message 日志内容
+     * @param site    调用位置，为空时不输出
+     */
+    String format(String message, CallSite site) {
+        if (site != null) {
+            add(KEY_METHOD, TYPE_STRING, 0, site.getMethod());
+            add(KEY_LINE, TYPE_LONG, site.getLine(), null);
+        }
+
+        StructuredFormatter formatter = LogUtils.getStructuredFormatter();
+        StringBuilder builder = mBuilder;
+        builder.setLength(0);
+        formatter.format(message, this, builder);
+        return builder.toString();
+    }
+
+    private void reset() {
+        for (int i = 0; i < mSize; i++) {
+            mObjects[i] = null;
+        }
+        mSize = 0;
+        mTag = null;
+        isEnabled = false;
+        isInUse = false;
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    @Override
+    public String getKey(int index) {
+        return mKeys[index];
+    }
+
+    @Override
+    public int getType(int index) {
+        return mTypes[index];
+    }
+
+    @Override
+    public long getLong(int index) {
+        return mValues[index];
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return Double.longBitsToDouble(mValues[index]);
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return mValues[index] != 0;
+    }
+
+    @Override
+    public Object getObject(int index) {
+        return mObjects[index];
+    }
+}
@@ -2,12 +2,17 @@ package com.zhang.library.utils;
 
 import android.text.format.DateUtils;
 
+import com.zhang.library.utils.time.DateFormatCache;
+import com.zhang.library.utils.time.FixedDateFormat;
+import com.zhang.library.utils.time.RelativeTimeFormatter;
+import com.zhang.library.utils.time.ZoneOffsetTable;
+
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * 时间工具
@@ -46,6 +51,9 @@ public class TimeUtils {
 
     private static final DateFormat mFormat;
 
+    /** 默认时区的{@link #DATE_FORMAT_DEFAULT}，默认时区改变后重新创建 */
+    private static volatile DefaultFormat sDefaultFormat;
+
     static {
         mFormat = SimpleDateFormat.getInstance();
     }
@@ -56,51 +64,47 @@ public class TimeUtils {
      * @param targetTime 时间
      */
     public static String calculateTimeDifference(String targetTime) {
-        SimpleDateFormat sdf1 = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
-        SimpleDateFormat sdf2 = new SimpleDateFormat("yyyy-MM-dd", Locale.getDefault());
-        StringBuilder builder = new StringBuilder();
-        try {
-            Date targetDate = null;
+        long now = System.currentTimeMillis();
+        long time = targetTime == null ? FixedDateFormat.INVALID : getDefaultFormat().parse(targetTime);
+        if (time == FixedDateFormat.INVALID) {
+            time = now;
             try {
-                targetDate = sdf1.parse(targetTime);
+                time = DateFormatCache.parse(DATE_FORMAT_DEFAULT, Locale.getDefault(), null, targetTime).getTime();
             } catch (Exception e) {
                 e.printStackTrace();
             }
-            if (targetDate == null)
-                targetDate = new Date();
-
-            Date currentDate = new Date(System.currentTimeMillis());
+        }
+        return RelativeTimeFormatter.getDefault().format(time, now);
+    }
 
-            long diff = Math.abs(currentDate.getTime() - targetDate.getTime()); //时间差，单位：毫秒
-            long days = diff / (1000 * 60 * 60 * 24);   //计算时间差的天数
-            diff -= days * (1000 * 60 * 60 * 24);       //扣除天数后剩余的时间
-            long hours = diff / (1000 * 60 * 60);       //计算时间差的小时数
-            diff -= hours * (1000 * 60 * 60);           //扣除小时数后的时间
-            long minutes = diff / (1000 * 60);          //计算时间差的分钟数
-            diff -= minutes * (1000 * 60);              //扣除分钟数后的时间
-            //            long seconds = diff / 1000;
-            if (days >= 7) {
-                builder.replace(0, builder.length(), sdf2.format(targetDate));
-            } else {
-                if (days > 0) {
-                    builder.append(days).append("天前");
-                } else {
-                    if (hours > 0) {
-                        builder.append(hours).append("小时前");
-                    } else {
-                        if (minutes > 0) {
-                            builder.append(minutes).append("分前");
-                        } else {
-                            builder.append("刚刚");
-                        }
-                    }
-                }
-            }
-            return builder.toString();
-        } catch (Exception e) {
-            e.printStackTrace();
+    private static FixedDateFormat getDefaultFormat() {
+        ZoneOffsetTable table = ZoneOffsetTable.getDefault();
+        DefaultFormat format = sDefaultFormat;
+        if (format == null || format.table != table) {
+            format = new DefaultFormat(table, new FixedDateFormat(DATE_FORMAT_DEFAULT, table.getTimeZone()));
+            sDefaultFormat = format;
         }
-        return null;
+        return format.format;
+    }
+
+    /**
+     * 计算时间差，返回"刚刚"、"N分前"、"N小时前"、"N天前"，超过7天返回{@link #DATE_FORMAT_YYYY_MM_DD}格式的日期
+     *
+     * @param targetTime 时间，毫秒为单位
+     */
+    public static String calculateTimeDifference(long targetTime) {
+        return RelativeTimeFormatter.getDefault().format(targetTime, System.currentTimeMillis());
+    }
+
+    /**
+     * 获取{@link #calculateTimeDifference(long)}的结果下次改变的时间，列表可以在这个时间统一刷新
+     *
+     * @param targetTime 时间，毫秒为单位
+     *
+     * @return 时间戳，毫秒为单位，以后不会再改变时返回{@link Long#MAX_VALUE}
+     */
+    public static long getTimeDifferenceChangeTime(long targetTime) {
+        return RelativeTimeFormatter.getDefault().getNextChangeTime(targetTime, System.currentTimeMillis());
     }
 
     /**
@@ -112,12 +116,11 @@ public class TimeUtils {
      */
     public static String getTime(String time) {
         try {
-            SimpleDateFormat format = new SimpleDateFormat(DATE_FORMAT_YYYY_MM_DD, Locale.getDefault());
-            Date date = format.parse(time);
+            Date date = DateFormatCache.parse(DATE_FORMAT_YYYY_MM_DD, Locale.getDefault(), null, time);
             if (date == null) {
                 throw new NullPointerException("Parse time failed! Please check the time format!");
             }
-            return format.format(date);
+            return getTimes(DATE_FORMAT_YYYY_MM_DD, date.getTime());
         } catch (ParseException e) {
             e.printStackTrace();
         }
@@ -131,12 +134,11 @@ public class TimeUtils {
      */
     public static String getTimes(String time) {
         try {
-            SimpleDateFormat format = new SimpleDateFormat(DATE_FORMAT_DEFAULT, Locale.getDefault());
-            Date date = format.parse(time);
+            Date date = DateFormatCache.parse(DATE_FORMAT_DEFAULT, Locale.getDefault(), null, time);
             if (date == null) {
                 throw new NullPointerException("Parse time failed! Please check the time format!");
             }
-            return format.format(date);
+            return getTimes(DATE_FORMAT_DEFAULT, date.getTime());
         } catch (ParseException e) {
             e.printStackTrace();
         }
@@ -170,11 +172,30 @@ public class TimeUtils {
      * @param timestamp 时间戳，毫秒为单位
      */
     public static String getTimes(String format, Locale locale, long timestamp) {
-        return new SimpleDateFormat(format, locale).format(new Date(timestamp));
+        return DateFormatCache.format(format, locale, null, timestamp);
+    }
+
+    /**
+     * 获取指定时区的时间格式
+     *
+     * @param format    时间格式
+     * @param locale    地区
+     * @param timeZone  时区
+     * @param timestamp 时间戳，毫秒为单位
+     */
+    public static String getTimes(String format, Locale locale, TimeZone timeZone, long timestamp) {
+        return DateFormatCache.format(format, locale, timeZone, timestamp);
+    }
+
+    /** 清空时间格式和时区的缓存，默认时区改变后会自动更新，需要立即生效时调用 */
+    public static void clearFormatCache() {
+        DateFormatCache.clear();
+        ZoneOffsetTable.clearDefault();
+        RelativeTimeFormatter.clearDefault();
     }
 
     public static int getDaysBetween(String smdate, String bdate) throws ParseException {
-        return getDaysBetween(new Date(Long.parseLong(smdate)), new Date(Long.parseLong(bdate)));
+        return getDaysBetween(Long.parseLong(smdate), Long.parseLong(bdate));
     }
 
     /**
@@ -186,26 +207,20 @@ public class TimeUtils {
      * @return 相差天数
      */
     public static int getDaysBetween(Date smDate, Date bigDate) throws ParseException {
-        SimpleDateFormat format = new SimpleDateFormat(DATE_FORMAT_YYYY_MM_DD, Locale.getDefault());
-
-        smDate = format.parse(format.format(smDate));
-        if (smDate == null) {
-            throw new NullPointerException("Parse smDate failed! Please check the time format!");
-        }
-
-        bigDate = format.parse(format.format(bigDate));
-        if (bigDate == null) {
-            throw new NullPointerException("Parse bigDate failed! Please check the time format!");
-        }
-
-        Calendar cal = Calendar.getInstance();
-        cal.setTime(smDate);
-        long time1 = cal.getTimeInMillis();
-        cal.setTime(bigDate);
-        long time2 = cal.getTimeInMillis();
-        long between_days = (time2 - time1) / DAY_IN_MILLIS;
+        return getDaysBetween(smDate.getTime(), bigDate.getTime());
+    }
 
-        return Integer.parseInt(String.valueOf(between_days));
+    /**
+     * 计算两个日期之间相差的天数，按默认时区的日期计算，夏令时切换的日期也是相差一天
+     *
+     * @param smTime  较小的时间，毫秒为单位
+     * @param bigTime 较大的时间，毫秒为单位
+     *
+     * @return 相差天数
+     */
+    public static int getDaysBetween(long smTime, long bigTime) {
+        ZoneOffsetTable table = ZoneOffsetTable.getDefault();
+        return (int) (table.getEpochDay(bigTime) - table.getEpochDay(smTime));
     }
 
     /**
@@ -215,7 +230,7 @@ public class TimeUtils {
      * @param intervalDay  间隔天数
      */
     public static String getDays(long originalTime, int intervalDay) {
-        return getDays(new Date(originalTime), intervalDay);
+        return String.valueOf(getDaysInMillis(originalTime, intervalDay));
     }
 
     /**
@@ -225,7 +240,7 @@ public class TimeUtils {
      * @param intervalDay  间隔天数
      */
     public static String getDays(String originalTime, int intervalDay) {
-        return getDays(new Date(Long.parseLong(originalTime)), intervalDay);
+        return getDays(Long.parseLong(originalTime), intervalDay);
     }
 
     /**
@@ -235,23 +250,30 @@ public class TimeUtils {
      * @param intervalDay  间隔天数
      */
     public static String getDays(Date originalDate, int intervalDay) {
-        try {
-            Calendar calendar = Calendar.getInstance();
-            SimpleDateFormat format = new SimpleDateFormat(DATE_FORMAT_YYYY_MM_DD, Locale.getDefault());
-            Date date = format.parse(format.format(originalDate));
-            if (date == null) {
-                throw new NullPointerException("Parse orginalDate time failed! Please check the time format!");
-            }
-            calendar.setTime(date);
-            LogUtils.info(TAG, "originalDate:%d-%d-%d %d:%d:%d", (calendar.getTime().getYear() + 1900), (calendar.getTime().getMonth() + 1), calendar.getTime().getDate(), calendar.getTime().getHours(),
-                    calendar.getTime().getMinutes(), calendar.getTime().getSeconds());
-            calendar.add(Calendar.DATE, intervalDay);
-            LogUtils.info(TAG, "originalDate:%d-%d-%d %d:%d:%d", (calendar.getTime().getYear() + 1900), (calendar.getTime().getMonth() + 1), calendar.getTime().getDate(), calendar.getTime().getHours(),
-                    calendar.getTime().getMinutes(), calendar.getTime().getSeconds());
-            return String.valueOf(calendar.getTimeInMillis());
-        } catch (ParseException e) {
-            e.printStackTrace();
+        return getDays(originalDate.getTime(), intervalDay);
+    }
+
+    /**
+     * 获得时间指定天数前后那一天的开始时间，按默认时区计算
+     *
+     * @param originalTime 原始时间，毫秒为单位
+     * @param intervalDay  间隔天数
+     *
+     * @return 当天0点的时间戳，0点因为夏令时不存在时为切换后的时间
+     */
+    public static long getDaysInMillis(long originalTime, int intervalDay) {
+        ZoneOffsetTable table = ZoneOffsetTable.getDefault();
+        return table.getStartOfDay(table.getEpochDay(originalTime) + intervalDay);
+    }
+
+    /** 创建时使用的时区表和格式，不可修改 */
+    private static final class DefaultFormat {
+        final ZoneOffsetTable table;
+        final FixedDateFormat format;
+
+        DefaultFormat(ZoneOffsetTable table, FixedDateFormat format) {
+            this.table = table;
+            this.format = format;
         }
-        return null;
     }
 }
@@ -0,0 +1,194 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.zhang.library.utils.TimeUtils;
+import com.zhang.library.utils.time.DateFormatCache;
+import com.zhang.library.utils.time.FixedDateFormat;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * 格式为{@link TimeUtils#DATE_FORMAT_DEFAULT}的日期解析器
+ * <p>
+ * Gson的setDateFormat使用同一个加锁的{@link java.text.DateFormat}，多线程解析时会互相等待。
+ * 这里用{@link FixedDateFormat}直接计算日期，不加锁也不创建DateFormat：格式化只创建结果字符串，解析"yyyy-MM-dd HH:mm:ss"不创建对象。
+ * 其他写法（例如"2020-1-5 3:4:5"）和超出范围的日期交给新建的{@link SimpleDateFormat}，结果和Gson一致；
+ * 最后按ISO8601（例如"2020-01-05T03:04:05.123+08:00"）解析，时区统一改写为"+0800"后使用{@link DateFormatCache}缓存的格式，
+ * 低版本的SimpleDateFormat不支持"XXX"
+ *
+ * @author ZhangXiaoMing 2026-10-18 22:50 周日
+ */
+public final class FastDateTypeAdapter extends TypeAdapter<Date> {
+
+    private static final String PATTERN = TimeUtils.DATE_FORMAT_DEFAULT;
+
+    private static final String ISO_DATE = "yyyy-MM-dd";
+    private static final String ISO_DATE_TIME = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+    /** "yyyy-MM-ddTHH:mm"的长度 */
+    private static final int ISO_MINUTE_LENGTH = 16;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final TimeZone mTimeZone;
+    private final FixedDateFormat mFormat;
+
+    /** 使用当前的默认时区，和Gson创建时的行为一致 */
+    public FastDateTypeAdapter() {
+        this(TimeZone.getDefault());
+    }
+
+    /**
+     * @param timeZone 时区
+     */
+    public FastDateTypeAdapter(TimeZone timeZone) {
+        mTimeZone = (TimeZone) timeZone.clone();
+        mFormat = new FixedDateFormat(PATTERN, mTimeZone);
+    }
+
+    @Override
+    public void write(JsonWriter out, Date value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.value(format(value.getTime()));
+    }
+
+    @Override
+    public Date read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String text = in.nextString();
+        long time = parse(text);
+        if (time != Long.MIN_VALUE)
+            return new Date(time);
+
+        Date date = parseSlow(text);
+        if (date == null)
+            throw new JsonSyntaxException("Failed parsing '" + text + "' as Date; at path " + in.getPreviousPath());
+        return date;
+    }
+
+    /**
+     * 格式化为"yyyy-MM-dd HH:mm:ss"
+     *
+     * @param time 时间戳，毫秒为单位
+     */
+    public String format(long time) {
+        char[] chars = new char[mFormat.length()];
+        if (mFormat.format(time, chars, 0) < 0)
+            return newDateFormat().format(new Date(time));
+        return new String(chars);
+    }
+
+    /**
+     * 解析"yyyy-MM-dd HH:mm:ss"格式的时间
+     *
+     * @return 时间戳，格式不完全一致或者超出范围时返回{@link Long#MIN_VALUE}
+     */
+    public long parse(String text) {
+        return mFormat.parse(text);
+    }
+
+    /** 和Gson的DefaultDateTypeAdapter一样，先按格式解析，失败后按ISO8601解析 */
+    private Date parseSlow(String text) {
+        try {
+            return newDateFormat().parse(text);
+        } catch (ParseException ignored) {
+        }
+        return parseIso8601(text);
+    }
+
+    /**
+     * 解析ISO8601格式的时间：yyyy-MM-dd，或者yyyy-MM-dd'T'HH:mm[:ss[.S...]]加时区（Z、+hh:mm、+hhmm、+hh）
+     *
+     * @return 格式错误时返回null
+     */
+    private Date parseIso8601(String text) {
+        int length = text.length();
+        if (length == ISO_DATE.length())
+            return parseIso8601(ISO_DATE, text, mTimeZone);
+        if (length < ISO_MINUTE_LENGTH || text.charAt(ISO_DATE.length()) != 'T')
+            return null;
+
+        //时区，改写为"+0800"
+        int zoneStart;
+        StringBuilder builder = new StringBuilder(length + 4);
+        if (text.charAt(length - 1) == 'Z') {
+            zoneStart = length - 1;
+        } else {
+            zoneStart = Math.max(text.lastIndexOf('+'), text.lastIndexOf('-'));
+            if (zoneStart < ISO_MINUTE_LENGTH)
+                return null;
+        }
+
+        //秒和秒的小数部分，小数固定为3位
+        builder.append(text, 0, ISO_MINUTE_LENGTH);
+        int index = ISO_MINUTE_LENGTH;
+        if (index < zoneStart) {
+            if (text.charAt(index) != ':' || zoneStart - index < 3)
+                return null;
+            builder.append(text, index, index + 3);
+            index += 3;
+        } else {
+            builder.append(":00");
+        }
+        builder.append('.');
+        if (index < zoneStart) {
+            if (text.charAt(index) != '.' || zoneStart - index < 2)
+                return null;
+            for (int i = index + 1; i < zoneStart; i++) {
+                if (text.charAt(i) < '0' || text.charAt(i) > '9')
+                    return null;
+            }
+            int end = Math.min(zoneStart, index + 4);
+            builder.append(text, index + 1, end);
+            for (int i = end - index - 1; i < 3; i++) {
+                builder.append('0');
+            }
+        } else {
+            builder.append("000");
+        }
+
+        if (zoneStart == length - 1) {
+            builder.append("+0000");
+        } else {
+            int zoneLength = length - zoneStart;
+            if (zoneLength == 3)
+                builder.append(text, zoneStart, length).append("00");
+            else if (zoneLength == 5)
+                builder.append(text, zoneStart, length);
+            else if (zoneLength == 6 && text.charAt(zoneStart + 3) == ':')
+                builder.append(text, zoneStart, zoneStart + 3).append(text, zoneStart + 4, length);
+            else
+                return null;
+        }
+        return parseIso8601(ISO_DATE_TIME, builder.toString(), null);
+    }
+
+    /** 完整匹配pattern时返回结果 */
+    private static Date parseIso8601(String pattern, String text, TimeZone timeZone) {
+        SimpleDateFormat format = DateFormatCache.get(pattern, Locale.US, timeZone == null ? UTC : timeZone);
+        ParsePosition position = new ParsePosition(0);
+        Date date = format.parse(text, position);
+        return position.getIndex() == text.length() ? date : null;
+    }
+
+    private SimpleDateFormat newDateFormat() {
+        SimpleDateFormat format = new SimpleDateFormat(PATTERN, Locale.US);
+        format.setTimeZone(mTimeZone);
+        return format;
+    }
+}
@@ -0,0 +1,52 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.zhang.library.utils.json.annotation.FastJson;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * 查找{@link FastJson}注解的类编译时生成的解析器
+ * <p>
+ * 解析器的类名为"类名_FastJsonAdapter"，嵌套类为"外部类_类名_FastJsonAdapter"，和注解的类在同一个包中。
+ * 没有生成解析器（例如没有添加注解处理器）时返回null，由Gson使用反射解析
+ *
+ * @author ZhangXiaoMing 2026-10-18 22:20 周日
+ */
+public final class FastJsonAdapterFactory implements TypeAdapterFactory {
+
+    private static final String ADAPTER_SUFFIX = "_FastJsonAdapter";
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (!rawType.isAnnotationPresent(FastJson.class))
+            return null;
+
+        Class<?> adapterClass;
+        try {
+            adapterClass = Class.forName(getAdapterName(rawType), true, rawType.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        try {
+            Constructor<?> constructor = adapterClass.getConstructor(Gson.class);
+            return (TypeAdapter<T>) constructor.newInstance(gson);
+        } catch (Exception e) {
+            throw new JsonIOException("Failed to create " + adapterClass.getName(), e);
+        }
+    }
+
+    private static String getAdapterName(Class<?> rawType) {
+        String name = rawType.getName();
+        int index = name.lastIndexOf('.');
+        String packagePrefix = index < 0 ? "" : name.substring(0, index + 1);
+        return packagePrefix + name.substring(index + 1).replace('$', '_') + ADAPTER_SUFFIX;
+    }
+}
@@ -0,0 +1,102 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * 生成的{@link com.zhang.library.utils.json.annotation.FastJson}解析器使用的读写方法
+ * <p>
+ * 行为和Gson内置的基本类型解析器一致，例如数字格式错误时抛出{@link JsonSyntaxException}，
+ * boolean可以从字符串解析
+ *
+ * @author ZhangXiaoMing 2026-10-18 22:20 周日
+ */
+public final class FastJsonSupport {
+
+    private FastJsonSupport() {
+    }
+
+    /**
+     * 当前值为null时读取并跳过
+     *
+     * @return 是否是null
+     */
+    public static boolean skipNull(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.NULL)
+            return false;
+
+        in.nextNull();
+        return true;
+    }
+
+    public static int nextInt(JsonReader in) throws IOException {
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    public static long nextLong(JsonReader in) throws IOException {
+        try {
+            return in.nextLong();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    public static double nextDouble(JsonReader in) throws IOException {
+        return in.nextDouble();
+    }
+
+    public static boolean nextBoolean(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.STRING)
+            return Boolean.parseBoolean(in.nextString());
+        return in.nextBoolean();
+    }
+
+    /** 读取字符串，null返回null，boolean转换为字符串 */
+    public static String nextString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN)
+            return Boolean.toString(in.nextBoolean());
+        return in.nextString();
+    }
+
+    /**
+     * 写入double，NaN和Infinity交给Gson的解析器处理，是否允许由Gson的配置决定
+     *
+     * @param out     已经写入名称的输出
+     * @param value   值
+     * @param adapter Gson的Double解析器
+     */
+    public static void writeDouble(JsonWriter out, double value, TypeAdapter<Double> adapter) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value))
+            adapter.write(out, value);
+        else
+            out.value(value);
+    }
+
+    /**
+     * 写入Double，null写入null
+     *
+     * @param out     已经写入名称的输出
+     * @param value   值
+     * @param adapter Gson的Double解析器
+     */
+    public static void writeDouble(JsonWriter out, Double value, TypeAdapter<Double> adapter) throws IOException {
+        if (value == null)
+            out.nullValue();
+        else
+            writeDouble(out, value.doubleValue(), adapter);
+    }
+}
@@ -0,0 +1,21 @@
+package com.zhang.library.utils.json;
+
+/**
+ * 流式读取Json数组的回调
+ *
+ * @param <T> 数组元素类型
+ *
+ * @author ZhangXiaoMing 2026-10-18 20:40 周日
+ */
+public interface JsonArrayCallback<T> {
+
+    /**
+     * 读取到一个元素，回调返回后才会读取下一个元素
+     *
+     * @param index   元素索引
+     * @param element 元素
+     *
+     * @return <b>false:</b>停止读取
+     */
+    boolean onElement(int index, T element);
+}
@@ -0,0 +1,132 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 流式读取Json数组
+ * <p>
+ * 调用{@link #next()}时才解析下一个元素，内存中只保留当前元素；读取完成后自动关闭，
+ * 提前结束时需要调用{@link #close()}。解析错误抛出{@link JsonSyntaxException}，读取错误抛出{@link JsonIOException}
+ *
+ * @param <T> 数组元素类型
+ *
+ * @author ZhangXiaoMing 2026-10-18 20:45 周日
+ */
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final JsonReader mReader;
+    private final TypeAdapter<T> mAdapter;
+
+    private boolean isStarted;
+    private boolean isFinished;
+    private int mIndex;
+
+    /**
+     * @param reader  Json读取器，位置在数组开始之前
+     * @param adapter 元素的解析器
+     */
+    public JsonArrayIterator(JsonReader reader, TypeAdapter<T> adapter) {
+        mReader = reader;
+        mAdapter = adapter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (isFinished)
+            return false;
+
+        try {
+            if (!isStarted) {
+                isStarted = true;
+                if (isEmptyDocument()) {
+                    close();
+                    return false;
+                }
+                mReader.beginArray();
+            }
+            if (mReader.hasNext())
+                return true;
+
+            mReader.endArray();
+            close();
+            return false;
+        } catch (IOException e) {
+            throw fail(e);
+        } catch (IllegalStateException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        try {
+            T element = mAdapter.read(mReader);
+            mIndex++;
+            return element;
+        } catch (IOException e) {
+            throw fail(e);
+        } catch (IllegalStateException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    /** 获取已读取的元素数量 */
+    public int getIndex() {
+        return mIndex;
+    }
+
+    @Override
+    public void close() {
+        if (isFinished)
+            return;
+
+        isFinished = true;
+        try {
+            mReader.close();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /** 内容为空时当作空数组，和Gson解析空内容返回null一致 */
+    private boolean isEmptyDocument() throws IOException {
+        try {
+            mReader.peek();
+            return false;
+        } catch (EOFException e) {
+            return true;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (JsonIOException ignored) {
+        }
+    }
+
+    private RuntimeException fail(Exception e) {
+        closeQuietly();
+        if (e instanceof MalformedJsonException || e instanceof EOFException || e instanceof IllegalStateException)
+            return new JsonSyntaxException(e);
+        return new JsonIOException(e);
+    }
+}
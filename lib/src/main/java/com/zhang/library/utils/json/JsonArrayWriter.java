@@ -0,0 +1,105 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * 流式写入Json数组
+ * <p>
+ * 每个元素直接序列化到输出中，不生成整个数组的字符串，导出大量数据时内存占用不随数量增长。
+ * 写入完成后需要调用{@link #close()}结束数组并关闭输出，写入错误抛出{@link JsonIOException}
+ *
+ * @param <T> 数组元素类型
+ *
+ * @author ZhangXiaoMing 2026-10-18 21:05 周日
+ */
+public class JsonArrayWriter<T> implements Closeable, Flushable {
+
+    private final JsonWriter mWriter;
+    private final TypeAdapter<T> mAdapter;
+
+    private boolean isStarted;
+    private boolean isClosed;
+    private int mCount;
+
+    /**
+     * @param writer  Json写入器
+     * @param adapter 元素的序列化器
+     */
+    public JsonArrayWriter(JsonWriter writer, TypeAdapter<T> adapter) {
+        mWriter = writer;
+        mAdapter = adapter;
+    }
+
+    /**
+     * 写入一个元素
+     *
+     * @param element 元素
+     */
+    public JsonArrayWriter<T> write(T element) {
+        if (isClosed)
+            throw new IllegalStateException("JsonArrayWriter is closed!");
+
+        try {
+            if (!isStarted) {
+                isStarted = true;
+                mWriter.beginArray();
+            }
+            mAdapter.write(mWriter, element);
+            mCount++;
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return this;
+    }
+
+    /**
+     * 写入多个元素
+     *
+     * @param elements 元素
+     */
+    public JsonArrayWriter<T> writeAll(Iterable<? extends T> elements) {
+        for (T element : elements) {
+            write(element);
+        }
+        return this;
+    }
+
+    /** 获取已写入的元素数量 */
+    public int getCount() {
+        return mCount;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            mWriter.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /** 结束数组并关闭输出，没有写入元素时输出空数组 */
+    @Override
+    public void close() {
+        if (isClosed)
+            return;
+
+        isClosed = true;
+        try {
+            if (!isStarted) {
+                isStarted = true;
+                mWriter.beginArray();
+            }
+            mWriter.endArray();
+            mWriter.close();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.zhang.library.utils.json;
+
+/**
+ * Json路径，例如：
+ * <pre>
+ * data.items[0].id
+ * $.data['user.name']
+ * </pre>
+ * 只支持字段名和数组下标，开头的$可以省略
+ *
+ * @author ZhangXiaoMing 2026-10-18 21:50 周日
+ */
+public final class JsonPath {
+
+    private final String mPath;
+    /** 字段名，下标位置为null */
+    private final String[] mNames;
+    /** 数组下标，字段名位置为-1 */
+    private final int[] mIndexes;
+
+    private JsonPath(String path, String[] names, int[] indexes) {
+        mPath = path;
+        mNames = names;
+        mIndexes = indexes;
+    }
+
+    /**
+     * 解析路径
+     *
+     * @param path 路径
+     *
+     * @throws IllegalArgumentException 路径格式错误
+     */
+    public static JsonPath compile(String path) {
+        if (path == null)
+            throw new IllegalArgumentException("Json path is null!");
+
+        String[] names = new String[8];
+        int[] indexes = new int[8];
+        int size = 0;
+
+        int length = path.length();
+        int i = 0;
+        if (i < length && path.charAt(i) == '$')
+            i++;
+        if (i < length && path.charAt(i) == '.' && i > 0)
+            i++;
+
+        while (i < length) {
+            if (size == names.length) {
+                String[] newNames = new String[size * 2];
+                int[] newIndexes = new int[size * 2];
+                System.arraycopy(names, 0, newNames, 0, size);
+                System.arraycopy(indexes, 0, newIndexes, 0, size);
+                names = newNames;
+                indexes = newIndexes;
+            }
+
+            char c = path.charAt(i);
+            if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0)
+                    throw invalid(path);
+
+                char quote = i + 1 < end ? path.charAt(i + 1) : 0;
+                if (quote == '\'' || quote == '"') {
+                    //['name']形式的字段名，字段名中可以有.和[
+                    end = path.indexOf(quote, i + 2);
+                    if (end < 0 || end + 1 >= length || path.charAt(end + 1) != ']')
+                        throw invalid(path);
+                    names[size] = path.substring(i + 2, end);
+                    indexes[size] = -1;
+                    i = end + 2;
+                } else {
+                    indexes[size] = parseIndex(path, i + 1, end);
+                    names[size] = null;
+                    i = end + 1;
+                }
+            } else {
+                int end = i;
+                while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == i)
+                    throw invalid(path);
+                names[size] = path.substring(i, end);
+                indexes[size] = -1;
+                i = end;
+            }
+            size++;
+
+            if (i < length && path.charAt(i) == '.') {
+                i++;
+                if (i == length)
+                    throw invalid(path);
+            }
+        }
+
+        String[] resultNames = new String[size];
+        int[] resultIndexes = new int[size];
+        System.arraycopy(names, 0, resultNames, 0, size);
+        System.arraycopy(indexes, 0, resultIndexes, 0, size);
+        return new JsonPath(path, resultNames, resultIndexes);
+    }
+
+    private static int parseIndex(String path, int start, int end) {
+        if (start >= end)
+            throw invalid(path);
+
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (c < '0' || c > '9' || index > (Integer.MAX_VALUE - 9) / 10)
+                throw invalid(path);
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    private static IllegalArgumentException invalid(String path) {
+        return new IllegalArgumentException("Invalid json path: " + path);
+    }
+
+    /** 获取路径的层数 */
+    public int size() {
+        return mNames.length;
+    }
+
+    /**
+     * 获取字段名
+     *
+     * @param depth 层级
+     *
+     * @return 该层是数组下标时返回null
+     */
+    public String getName(int depth) {
+        return mNames[depth];
+    }
+
+    /**
+     * 获取数组下标
+     *
+     * @param depth 层级
+     *
+     * @return 该层是字段名时返回-1
+     */
+    public int getIndex(int depth) {
+        return mIndexes[depth];
+    }
+
+    @Override
+    public String toString() {
+        return mPath;
+    }
+}
@@ -0,0 +1,179 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 按路径提取Json中的值
+ * <p>
+ * 用{@link JsonReader}顺序扫描，和路径无关的内容直接{@link JsonReader#skipValue()}跳过，不创建对象；
+ * 所有路径都找到后立即停止，不再读取剩余内容，因此找到之后的内容格式错误不会报错；
+ * 有重复的字段名时使用第一次出现的值
+ *
+ * @author ZhangXiaoMing 2026-10-18 22:00 周日
+ */
+public final class JsonPathExtractor {
+
+    private final Gson mGson;
+    private final JsonPath[] mPaths;
+    private final Type[] mTypes;
+    private final Object[] mValues;
+    /** 已经找到的路径，重复的字段名不再重复计数 */
+    private final boolean[] mFound;
+    private int mRemaining;
+
+    /**
+     * @param gson  解析值使用的Gson
+     * @param paths 路径
+     * @param types 值的类型，为null或者其中的元素为null时返回{@link JsonElement}
+     */
+    public JsonPathExtractor(Gson gson, JsonPath[] paths, Type[] types) {
+        mGson = gson;
+        mPaths = paths;
+        mTypes = types;
+        mValues = new Object[paths.length];
+        mFound = new boolean[paths.length];
+    }
+
+    /**
+     * 扫描并提取所有路径的值，读取器只会读取到最后一个值为止，不会关闭
+     *
+     * @param reader Json读取器
+     *
+     * @return 和路径顺序一致的值，没有找到的路径为null
+     */
+    public Object[] extract(JsonReader reader) throws IOException {
+        int count = mPaths.length;
+        mRemaining = count;
+        for (int i = 0; i < count; i++) {
+            mValues[i] = null;
+            mFound[i] = false;
+        }
+        if (count > 0) {
+            int[] candidates = new int[count];
+            for (int i = 0; i < count; i++) {
+                candidates[i] = i;
+            }
+            scan(reader, candidates, count, 0);
+        }
+        return mValues;
+    }
+
+    /**
+     * 扫描当前位置的值
+     *
+     * @param candidates 前depth层都匹配、还没有找到的路径
+     * @param count      路径数量
+     * @param depth      当前层级
+     *
+     * @return 是否全部找到，可以停止扫描
+     */
+    private boolean scan(JsonReader reader, int[] candidates, int count, int depth) throws IOException {
+        boolean hasCompleted = false;
+        for (int i = 0; i < count; i++) {
+            if (mPaths[candidates[i]].size() == depth) {
+                hasCompleted = true;
+                break;
+            }
+        }
+        if (hasCompleted)
+            return readTarget(reader, candidates, count, depth);
+
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BEGIN_OBJECT) {
+            int[] next = new int[count];
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                int nextCount = 0;
+                for (int i = 0; i < count; i++) {
+                    if (!mFound[candidates[i]] && name.equals(mPaths[candidates[i]].getName(depth)))
+                        next[nextCount++] = candidates[i];
+                }
+
+                if (nextCount == 0)
+                    reader.skipValue();
+                else if (scan(reader, next, nextCount, depth + 1))
+                    return true;
+            }
+            reader.endObject();
+        } else if (token == JsonToken.BEGIN_ARRAY) {
+            int[] next = new int[count];
+            reader.beginArray();
+            for (int index = 0; reader.hasNext(); index++) {
+                int nextCount = 0;
+                for (int i = 0; i < count; i++) {
+                    if (!mFound[candidates[i]] && mPaths[candidates[i]].getIndex(depth) == index)
+                        next[nextCount++] = candidates[i];
+                }
+
+                if (nextCount == 0)
+                    reader.skipValue();
+                else if (scan(reader, next, nextCount, depth + 1))
+                    return true;
+            }
+            reader.endArray();
+        } else {
+            //路径更深，但这里已经是基本类型
+            reader.skipValue();
+        }
+        return false;
+    }
+
+    /** 读取目标值，有更深的路径时先读取为树再查找 */
+    private boolean readTarget(JsonReader reader, int[] candidates, int count, int depth) throws IOException {
+        if (count == 1) {
+            int target = candidates[0];
+            TypeAdapter<?> adapter = mGson.getAdapter(TypeToken.get(getType(target)));
+            setValue(target, adapter.read(reader));
+            return mRemaining == 0;
+        }
+
+        JsonElement element = mGson.getAdapter(JsonElement.class).read(reader);
+        for (int i = 0; i < count; i++) {
+            int target = candidates[i];
+            JsonElement value = find(element, mPaths[target], depth);
+            if (value == null || mFound[target])
+                continue;
+            if (mTypes == null || mTypes[target] == null)
+                setValue(target, value);
+            else
+                setValue(target, mGson.fromJson(value, mTypes[target]));
+        }
+        return mRemaining == 0;
+    }
+
+    private Type getType(int target) {
+        return mTypes == null || mTypes[target] == null ? JsonElement.class : mTypes[target];
+    }
+
+    private void setValue(int target, Object value) {
+        mValues[target] = value;
+        if (!mFound[target]) {
+            mFound[target] = true;
+            mRemaining--;
+        }
+    }
+
+    private static JsonElement find(JsonElement element, JsonPath path, int depth) {
+        for (int i = depth; i < path.size() && element != null; i++) {
+            String name = path.getName(i);
+            if (name != null) {
+                element = element.isJsonObject() ? ((JsonObject) element).get(name) : null;
+            } else {
+                int index = path.getIndex(i);
+                element = element.isJsonArray() && index < ((JsonArray) element).size() ? ((JsonArray) element).get(index) : null;
+            }
+        }
+        return element;
+    }
+}
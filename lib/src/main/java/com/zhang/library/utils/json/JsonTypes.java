@@ -0,0 +1,147 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 类型缓存
+ * <p>
+ * 缓存参数化类型和对应的{@link TypeAdapter}，避免解析时重复创建{@link TypeToken}、反射解析泛型和查找解析器。
+ * 返回的类型对象是同一个实例，作为Map的key时也只比较引用
+ *
+ * @author ZhangXiaoMing 2026-10-18 21:25 周日
+ */
+public final class JsonTypes {
+
+    private final Gson mGson;
+
+    private final ConcurrentHashMap<Class<?>, TypeToken<?>> mListTypes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, TypeToken<?>> mMapTypes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, TypeToken<?>> mParameterizedTypes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Type, TypeToken<?>> mTokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Type, TypeAdapter<?>> mAdapters = new ConcurrentHashMap<>();
+
+    /**
+     * @param gson 查找解析器的Gson
+     */
+    public JsonTypes(Gson gson) {
+        mGson = gson;
+    }
+
+    /**
+     * 获取List&lt;T&gt;类型
+     *
+     * @param elementClass 元素类型
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TypeToken<List<T>> listOf(Class<T> elementClass) {
+        TypeToken<?> token = mListTypes.get(elementClass);
+        if (token == null)
+            token = putIfAbsent(mListTypes, elementClass, TypeToken.getParameterized(List.class, elementClass));
+        return (TypeToken<List<T>>) token;
+    }
+
+    /**
+     * 获取Map&lt;String, V&gt;类型
+     *
+     * @param valueClass 值类型
+     */
+    @SuppressWarnings("unchecked")
+    public <V> TypeToken<Map<String, V>> mapOf(Class<V> valueClass) {
+        TypeToken<?> token = mMapTypes.get(valueClass);
+        if (token == null)
+            token = putIfAbsent(mMapTypes, valueClass, TypeToken.getParameterized(Map.class, String.class, valueClass));
+        return (TypeToken<Map<String, V>>) token;
+    }
+
+    /**
+     * 获取参数化类型，例如parameterized(Map.class, String.class, listOf(Foo.class).getType())
+     *
+     * @param rawClass      原始类型
+     * @param typeArguments 泛型参数
+     */
+    public TypeToken<?> parameterized(Class<?> rawClass, Type... typeArguments) {
+        Key key = new Key(rawClass, typeArguments);
+        TypeToken<?> token = mParameterizedTypes.get(key);
+        if (token == null)
+            token = putIfAbsent(mParameterizedTypes, new Key(rawClass, typeArguments.clone()),
+                    TypeToken.getParameterized(rawClass, typeArguments));
+        return token;
+    }
+
+    /**
+     * 获取类型对应的TypeToken
+     *
+     * @param type 类型
+     */
+    public TypeToken<?> getToken(Type type) {
+        TypeToken<?> token = mTokens.get(type);
+        if (token == null)
+            token = putIfAbsent(mTokens, type, TypeToken.get(type));
+        return token;
+    }
+
+    /**
+     * 获取类型对应的解析器
+     *
+     * @param type 类型
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> getAdapter(Type type) {
+        TypeAdapter<?> adapter = mAdapters.get(type);
+        if (adapter == null)
+            adapter = putIfAbsent(mAdapters, type, mGson.getAdapter(getToken(type)));
+        return (TypeAdapter<T>) adapter;
+    }
+
+    /** 清空缓存 */
+    public void clear() {
+        mListTypes.clear();
+        mMapTypes.clear();
+        mParameterizedTypes.clear();
+        mTokens.clear();
+        mAdapters.clear();
+    }
+
+    private static <K, V> V putIfAbsent(ConcurrentHashMap<K, V> map, K key, V value) {
+        V previous = map.putIfAbsent(key, value);
+        return previous == null ? value : previous;
+    }
+
+    private static final class Key {
+        private final Class<?> mRawClass;
+        private final Type[] mTypeArguments;
+        private final int mHashCode;
+
+        Key(Class<?> rawClass, Type[] typeArguments) {
+            mRawClass = rawClass;
+            mTypeArguments = typeArguments;
+            mHashCode = 31 * rawClass.hashCode() + Arrays.hashCode(typeArguments);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+
+            Key other = (Key) o;
+            return mHashCode == other.mHashCode
+                    && mRawClass == other.mRawClass
+                    && Arrays.equals(mTypeArguments, other.mTypeArguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHashCode;
+        }
+    }
+}
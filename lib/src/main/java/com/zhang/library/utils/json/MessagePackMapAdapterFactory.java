@@ -0,0 +1,50 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 让Gson的Map解析支持{@link MessagePackReader}
+ * <p>
+ * Gson的Map解析读取key时依赖内部的JsonReader实现，从MessagePackReader读取时先把Map读取为树结构，
+ * 再交给Gson的Map解析器；读取Json和序列化时直接交给Gson的Map解析器
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:20 周日
+ */
+public final class MessagePackMapAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!Map.class.isAssignableFrom(type.getRawType()))
+            return null;
+
+        return new Adapter<>(gson.getDelegateAdapter(this, type));
+    }
+
+    private static final class Adapter<T> extends TypeAdapter<T> {
+        private final TypeAdapter<T> mDelegate;
+
+        Adapter(TypeAdapter<T> delegate) {
+            mDelegate = delegate;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            mDelegate.write(out, value);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            if (in instanceof MessagePackReader)
+                return mDelegate.fromJsonTree(((MessagePackReader) in).nextTree());
+            return mDelegate.read(in);
+        }
+    }
+}
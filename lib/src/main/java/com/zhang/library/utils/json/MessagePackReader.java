@@ -0,0 +1,610 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 读取{@link MessagePackWriter}写入的数据的{@link JsonReader}
+ * <p>
+ * Gson的TypeAdapter按Json的结构读取，这里直接从MessagePack的二进制数据中读取，不经过字符串。
+ * Gson的Map解析依赖内部的JsonReader实现，需要配合{@link MessagePackMapAdapterFactory}，Map先读取为树结构再解析。
+ * Map的key重复出现时复用同一个字符串，不支持二进制和扩展类型
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:20 周日
+ */
+public final class MessagePackReader extends JsonReader {
+
+    /** 不会被调用，所有读取方法都已重写 */
+    private static final Reader UNUSED = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /** 2的64次方，uint64超出long范围时加上 */
+    private static final BigInteger UINT64_RANGE = BigInteger.ONE.shiftLeft(64);
+
+    /** key缓存的大小，必须是2的幂 */
+    private static final int KEY_CACHE_SIZE = 64;
+
+    private final byte[] mBytes;
+    private int mPosition;
+
+    /** 未读完的Map和数组中剩余的元素个数 */
+    private int[] mRemaining = new int[16];
+    private boolean[] isObjects = new boolean[16];
+    private int mDepth;
+    /** 当前Map中下一个是名称 */
+    private boolean isNameNext;
+
+    private final String[] mKeys = new String[KEY_CACHE_SIZE];
+    /** 缓存的key在数据中的位置和长度，用于比较原始字节 */
+    private final int[] mKeyOffsets = new int[KEY_CACHE_SIZE];
+    private final int[] mKeyLengths = new int[KEY_CACHE_SIZE];
+
+    /**
+     * @param bytes 数据，只能包含一个值
+     */
+    public MessagePackReader(byte[] bytes) {
+        super(UNUSED);
+        mBytes = bytes;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        checkValue();
+        int type = currentByte();
+        if (getToken(type) != JsonToken.BEGIN_ARRAY)
+            throw unexpected(JsonToken.BEGIN_ARRAY);
+
+        push(readContainerLength(type, 0x90), false);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        pop(false);
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        checkValue();
+        int type = currentByte();
+        if (getToken(type) != JsonToken.BEGIN_OBJECT)
+            throw unexpected(JsonToken.BEGIN_OBJECT);
+
+        push(readContainerLength(type, 0x80), true);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        pop(true);
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (mDepth == 0)
+            return mPosition < mBytes.length;
+        return mRemaining[mDepth - 1] > 0;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (mDepth > 0) {
+            int index = mDepth - 1;
+            if (mRemaining[index] == 0)
+                return isObjects[index] ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+            if (isObjects[index] && isNameNext)
+                return JsonToken.NAME;
+        } else if (mPosition >= mBytes.length) {
+            return JsonToken.END_DOCUMENT;
+        }
+        return getToken(currentByte());
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        if (mDepth == 0 || !isObjects[mDepth - 1] || !isNameNext || mRemaining[mDepth - 1] == 0)
+            throw unexpected(JsonToken.NAME);
+
+        String name = readKey();
+        isNameNext = false;
+        return name;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        checkValue();
+        int type = currentByte();
+        JsonToken token = getToken(type);
+        String value;
+        if (token == JsonToken.STRING) {
+            value = readString(readStringLength(type));
+        } else if (token == JsonToken.NUMBER) {
+            //和JsonReader一样，数字可以按字符串读取
+            mPosition++;
+            value = readNumber(type).toString();
+        } else {
+            throw unexpected(JsonToken.STRING);
+        }
+        afterValue();
+        return value;
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        checkValue();
+        int type = currentByte();
+        if (type != 0xc2 && type != 0xc3)
+            throw unexpected(JsonToken.BOOLEAN);
+
+        mPosition++;
+        afterValue();
+        return type == 0xc3;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        checkValue();
+        if (currentByte() != 0xc0)
+            throw unexpected(JsonToken.NULL);
+
+        mPosition++;
+        afterValue();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        checkValue();
+        int type = currentByte();
+        JsonToken token = getToken(type);
+        double value;
+        if (token == JsonToken.NUMBER) {
+            mPosition++;
+            value = readNumber(type).doubleValue();
+        } else if (token == JsonToken.STRING) {
+            int start = mPosition;
+            String text = readString(readStringLength(type));
+            try {
+                value = Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                mPosition = start;
+                throw e;
+            }
+        } else {
+            throw unexpected(JsonToken.NUMBER);
+        }
+        afterValue();
+        return value;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        checkValue();
+        int start = mPosition;
+        int type = currentByte();
+        JsonToken token = getToken(type);
+        Object value;
+        if (token == JsonToken.NUMBER) {
+            mPosition++;
+            value = readNumber(type);
+        } else if (token == JsonToken.STRING) {
+            value = readString(readStringLength(type));
+        } else {
+            throw unexpected(JsonToken.NUMBER);
+        }
+
+        long result;
+        try {
+            result = toLong(value);
+        } catch (NumberFormatException e) {
+            //和JsonReader一样，失败时不消耗这个值
+            mPosition = start;
+            throw new NumberFormatException("Expected a long but was " + value + locationString());
+        }
+        afterValue();
+        return result;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        checkValue();
+        int start = mPosition;
+        long value = nextLong();
+        if (value != (int) value) {
+            mPosition = start;
+            undoValue();
+            throw new NumberFormatException("Expected an int but was " + value + locationString());
+        }
+        return (int) value;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        if (mDepth > 0 && isObjects[mDepth - 1] && isNameNext) {
+            //和JsonReader一样，当前是名称时只跳过名称
+            nextName();
+            return;
+        }
+        checkValue();
+        skip();
+        afterValue();
+    }
+
+    /** 读取当前值为树结构 */
+    public JsonElement nextTree() throws IOException {
+        checkValue();
+        JsonElement element = readTree();
+        afterValue();
+        return element;
+    }
+
+    @Override
+    public void close() {
+        mDepth = 0;
+        mPosition = mBytes.length;
+    }
+
+    @Override
+    public String getPath() {
+        return "$";
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + locationString();
+    }
+
+    private void push(int count, boolean isObject) {
+        //Map和数组本身也是外层的一个值
+        afterValue();
+        if (mDepth == mRemaining.length) {
+            mRemaining = Arrays.copyOf(mRemaining, mDepth * 2);
+            isObjects = Arrays.copyOf(isObjects, mDepth * 2);
+        }
+        mRemaining[mDepth] = count;
+        isObjects[mDepth] = isObject;
+        mDepth++;
+        isNameNext = isObject;
+    }
+
+    private void pop(boolean isObject) throws IOException {
+        if (mDepth == 0 || isObjects[mDepth - 1] != isObject || mRemaining[mDepth - 1] != 0)
+            throw unexpected(isObject ? JsonToken.END_OBJECT : JsonToken.END_ARRAY);
+
+        mDepth--;
+        isNameNext = mDepth > 0 && isObjects[mDepth - 1];
+    }
+
+    /** 检查当前位置是值，而不是名称或者结束 */
+    private void checkValue() throws IOException {
+        if (mDepth > 0) {
+            int index = mDepth - 1;
+            if (mRemaining[index] == 0 || (isObjects[index] && isNameNext))
+                throw new IllegalStateException("Expected a value but was " + peek() + locationString());
+        } else if (mPosition >= mBytes.length) {
+            throw new JsonSyntaxException("Unexpected end of MessagePack data" + locationString());
+        }
+    }
+
+    /** 读取一个值之后更新外层的剩余个数 */
+    private void afterValue() {
+        if (mDepth == 0)
+            return;
+
+        int index = mDepth - 1;
+        mRemaining[index]--;
+        isNameNext = isObjects[index];
+    }
+
+    /** 撤销{@link #afterValue()} */
+    private void undoValue() {
+        if (mDepth == 0)
+            return;
+
+        mRemaining[mDepth - 1]++;
+        isNameNext = false;
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Long)
+            return (Long) value;
+        if (value instanceof String) {
+            try {
+                return Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                value = Double.parseDouble((String) value);
+            }
+        }
+        if (value instanceof BigInteger)
+            throw new NumberFormatException();
+
+        double d = ((Number) value).doubleValue();
+        long result = (long) d;
+        if (result != d)
+            throw new NumberFormatException();
+        return result;
+    }
+
+    private JsonToken getToken(int type) {
+        if (type <= 0x7f || type >= 0xe0)
+            return JsonToken.NUMBER;
+        if (type <= 0x8f)
+            return JsonToken.BEGIN_OBJECT;
+        if (type <= 0x9f)
+            return JsonToken.BEGIN_ARRAY;
+        if (type <= 0xbf)
+            return JsonToken.STRING;
+
+        switch (type) {
+            case 0xc0:
+                return JsonToken.NULL;
+            case 0xc2:
+            case 0xc3:
+                return JsonToken.BOOLEAN;
+            case 0xca:
+            case 0xcb:
+            case 0xcc:
+            case 0xcd:
+            case 0xce:
+            case 0xcf:
+            case 0xd0:
+            case 0xd1:
+            case 0xd2:
+            case 0xd3:
+                return JsonToken.NUMBER;
+            case 0xd9:
+            case 0xda:
+            case 0xdb:
+                return JsonToken.STRING;
+            case 0xdc:
+            case 0xdd:
+                return JsonToken.BEGIN_ARRAY;
+            case 0xde:
+            case 0xdf:
+                return JsonToken.BEGIN_OBJECT;
+            default:
+                throw new JsonSyntaxException("Unsupported MessagePack type 0x" + Integer.toHexString(type) + locationString());
+        }
+    }
+
+    /**
+     * 读取数字，类型字节已经读取
+     *
+     * @return 整数返回Long，超出long范围的uint64返回BigInteger，浮点数返回Float或Double
+     */
+    private Number readNumber(int type) {
+        if (type <= 0x7f)
+            return (long) type;
+        if (type >= 0xe0)
+            return (long) (byte) type;
+
+        switch (type) {
+            case 0xca:
+                return Float.intBitsToFloat(readInt());
+            case 0xcb:
+                return Double.longBitsToDouble(readLong());
+            case 0xcc:
+                return (long) (readByte() & 0xFF);
+            case 0xcd:
+                return (long) (readShort() & 0xFFFF);
+            case 0xce:
+                return readInt() & 0xFFFFFFFFL;
+            case 0xcf: {
+                long value = readLong();
+                if (value >= 0)
+                    return value;
+                return BigInteger.valueOf(value).add(UINT64_RANGE);
+            }
+            case 0xd0:
+                return (long) readByte();
+            case 0xd1:
+                return (long) readShort();
+            case 0xd2:
+                return (long) readInt();
+            default:
+                return readLong();
+        }
+    }
+
+    /** 读取字符串的长度，包括类型字节 */
+    private int readStringLength(int type) {
+        mPosition++;
+        if (type >= 0xa0 && type <= 0xbf)
+            return type & 0x1f;
+        if (type == 0xd9)
+            return readByte() & 0xFF;
+        if (type == 0xda)
+            return readShort() & 0xFFFF;
+        return readLength();
+    }
+
+    /** 读取Map或数组的长度，包括类型字节 */
+    private int readContainerLength(int type, int fixType) {
+        mPosition++;
+        if (type >= fixType && type <= fixType + 0x0f)
+            return type & 0x0f;
+        if (type == 0xdc || type == 0xde)
+            return readShort() & 0xFFFF;
+        return readLength();
+    }
+
+    private JsonElement readTree() {
+        int type = currentByte();
+        switch (getToken(type)) {
+            case BEGIN_OBJECT: {
+                int count = readContainerLength(type, 0x80);
+                JsonObject object = new JsonObject();
+                for (int i = 0; i < count; i++) {
+                    String key = readKey();
+                    object.add(key, readTree());
+                }
+                return object;
+            }
+            case BEGIN_ARRAY: {
+                int count = readContainerLength(type, 0x90);
+                //每个元素至少1个字节，避免错误的长度申请过大的内存
+                JsonArray array = new JsonArray(Math.min(count, mBytes.length - mPosition));
+                for (int i = 0; i < count; i++) {
+                    array.add(readTree());
+                }
+                return array;
+            }
+            case STRING:
+                return new JsonPrimitive(readString(readStringLength(type)));
+            case NUMBER:
+                mPosition++;
+                return new JsonPrimitive(readNumber(type));
+            case BOOLEAN:
+                mPosition++;
+                return new JsonPrimitive(type == 0xc3);
+            default:
+                mPosition++;
+                return JsonNull.INSTANCE;
+        }
+    }
+
+    private void skip() {
+        int type = currentByte();
+        switch (getToken(type)) {
+            case BEGIN_OBJECT: {
+                int count = readContainerLength(type, 0x80);
+                for (int i = 0; i < count; i++) {
+                    skip();
+                    skip();
+                }
+                break;
+            }
+            case BEGIN_ARRAY: {
+                int count = readContainerLength(type, 0x90);
+                for (int i = 0; i < count; i++) {
+                    skip();
+                }
+                break;
+            }
+            case STRING:
+                skipBytes(readStringLength(type));
+                break;
+            case NUMBER:
+                mPosition++;
+                readNumber(type);
+                break;
+            default:
+                mPosition++;
+                break;
+        }
+    }
+
+    private String readKey() {
+        int type = currentByte();
+        if (getToken(type) != JsonToken.STRING)
+            throw new JsonSyntaxException("Expected a string key" + locationString());
+
+        int length = readStringLength(type);
+        checkRemaining(length);
+        byte[] bytes = mBytes;
+        int offset = mPosition;
+        int hash = length;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & (KEY_CACHE_SIZE - 1);
+        String cached = mKeys[index];
+        if (cached != null && mKeyLengths[index] == length && equals(mKeyOffsets[index], offset, length)) {
+            mPosition += length;
+            return cached;
+        }
+
+        String key = readString(length);
+        mKeys[index] = key;
+        mKeyOffsets[index] = offset;
+        mKeyLengths[index] = length;
+        return key;
+    }
+
+    private boolean equals(int cachedOffset, int offset, int length) {
+        byte[] bytes = mBytes;
+        for (int i = 0; i < length; i++) {
+            if (bytes[cachedOffset + i] != bytes[offset + i])
+                return false;
+        }
+        return true;
+    }
+
+    private String readString(int length) {
+        checkRemaining(length);
+        String value = new String(mBytes, mPosition, length, UTF_8);
+        mPosition += length;
+        return value;
+    }
+
+    private void skipBytes(int length) {
+        checkRemaining(length);
+        mPosition += length;
+    }
+
+    private int currentByte() {
+        checkRemaining(1);
+        return mBytes[mPosition] & 0xFF;
+    }
+
+    private int readLength() {
+        int length = readInt();
+        if (length < 0)
+            throw new JsonSyntaxException("MessagePack length too large" + locationString());
+        return length;
+    }
+
+    private void checkRemaining(int length) {
+        if (length > mBytes.length - mPosition)
+            throw new JsonSyntaxException("Unexpected end of MessagePack data" + locationString());
+    }
+
+    private byte readByte() {
+        checkRemaining(1);
+        return mBytes[mPosition++];
+    }
+
+    private short readShort() {
+        checkRemaining(2);
+        byte[] bytes = mBytes;
+        return (short) ((bytes[mPosition++] & 0xFF) << 8 | (bytes[mPosition++] & 0xFF));
+    }
+
+    private int readInt() {
+        checkRemaining(4);
+        byte[] bytes = mBytes;
+        return (bytes[mPosition++] & 0xFF) << 24 | (bytes[mPosition++] & 0xFF) << 16
+                | (bytes[mPosition++] & 0xFF) << 8 | (bytes[mPosition++] & 0xFF);
+    }
+
+    private long readLong() {
+        return (long) readInt() << 32 | (readInt() & 0xFFFFFFFFL);
+    }
+
+    private IllegalStateException unexpected(JsonToken expected) throws IOException {
+        return new IllegalStateException("Expected " + expected + " but was " + peek() + locationString());
+    }
+
+    private String locationString() {
+        return " at offset " + mPosition;
+    }
+}
@@ -0,0 +1,443 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 输出MessagePack格式的{@link JsonWriter}
+ * <p>
+ * Gson的TypeAdapter按Json的结构调用写入方法，这里直接写入MessagePack的二进制数据，因此序列化规则和Json完全一致。
+ * Map和数组的长度在结束时才知道，开始时预留1个字节，超过15个元素时再后移内容写入完整长度。
+ * BigInteger、BigDecimal超出long范围时按字符串写入，不丢失精度
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:20 周日
+ */
+public final class MessagePackWriter extends JsonWriter {
+
+    /** 不会被调用，所有写入方法都已重写 */
+    private static final Writer UNUSED = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private byte[] mBuffer;
+    private int mSize;
+
+    /** 未关闭的Map和数组在mBuffer中的位置 */
+    private int[] mStarts = new int[16];
+    /** 未关闭的Map和数组中已经写入的元素个数 */
+    private int[] mCounts = new int[16];
+    private boolean[] isObjects = new boolean[16];
+    private int mDepth;
+
+    /** 已经调用name()，还没有写入值的名称 */
+    private String mDeferredName;
+
+    public MessagePackWriter() {
+        this(256);
+    }
+
+    /**
+     * @param capacity 初始容量
+     */
+    public MessagePackWriter(int capacity) {
+        super(UNUSED);
+        mBuffer = new byte[capacity];
+    }
+
+    /** 写入的数据 */
+    public byte[] toByteArray() {
+        if (mDepth > 0 || mDeferredName != null)
+            throw new IllegalStateException("Incomplete document");
+        return Arrays.copyOf(mBuffer, mSize);
+    }
+
+    /** 已写入的字节数 */
+    public int size() {
+        return mSize;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        return open(false);
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        return close(false);
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        return open(true);
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        return close(true);
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        if (name == null)
+            throw new NullPointerException("name == null");
+        if (mDeferredName != null || mDepth == 0 || !isObjects[mDepth - 1])
+            throw new IllegalStateException("Nesting problem.");
+
+        mDeferredName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null)
+            return nullValue();
+
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    /** 先解析为{@link JsonElement}，再按结构写入 */
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        if (value == null)
+            return nullValue();
+        return writeElement(JsonParser.parseString(value));
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (mDeferredName != null && !getSerializeNulls()) {
+            //和JsonWriter一样，不输出null时名称也不输出
+            mDeferredName = null;
+            return this;
+        }
+
+        beforeValue();
+        writeByte(0xc0);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        writeByte(value ? 0xc3 : 0xc2);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        if (value == null)
+            return nullValue();
+        return value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(float value) throws IOException {
+        beforeValue();
+        ensureCapacity(5);
+        mBuffer[mSize++] = (byte) 0xca;
+        writeInt(Float.floatToIntBits(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        beforeValue();
+        ensureCapacity(9);
+        mBuffer[mSize++] = (byte) 0xcb;
+        writeLong(Double.doubleToLongBits(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        writeInteger(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null)
+            return nullValue();
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+            return value(value.longValue());
+        if (value instanceof Double)
+            return value(value.doubleValue());
+        if (value instanceof Float)
+            return value(value.floatValue());
+        if (value instanceof BigInteger) {
+            BigInteger integer = (BigInteger) value;
+            if (integer.compareTo(MIN_LONG) >= 0 && integer.compareTo(MAX_LONG) <= 0)
+                return value(integer.longValue());
+            return value(integer.toString());
+        }
+        if (value instanceof BigDecimal)
+            return value(value.toString());
+
+        //LazilyParsedNumber等，按内容选择整数或者浮点数
+        String text = value.toString();
+        try {
+            return value(Long.parseLong(text));
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            return value(new BigInteger(text));
+        } catch (NumberFormatException ignored) {
+        }
+        return value(Double.parseDouble(text));
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private JsonWriter writeElement(JsonElement element) throws IOException {
+        if (element.isJsonNull())
+            return nullValue();
+
+        if (element.isJsonPrimitive()) {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean())
+                return value(primitive.getAsBoolean());
+            if (primitive.isNumber())
+                return value(primitive.getAsNumber());
+            return value(primitive.getAsString());
+        }
+
+        if (element.isJsonArray()) {
+            beginArray();
+            for (JsonElement item : (JsonArray) element) {
+                writeElement(item);
+            }
+            return endArray();
+        }
+
+        beginObject();
+        for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+            name(entry.getKey());
+            writeElement(entry.getValue());
+        }
+        return endObject();
+    }
+
+    private JsonWriter open(boolean isObject) {
+        beforeValue();
+        if (mDepth == mStarts.length) {
+            mStarts = Arrays.copyOf(mStarts, mDepth * 2);
+            mCounts = Arrays.copyOf(mCounts, mDepth * 2);
+            isObjects = Arrays.copyOf(isObjects, mDepth * 2);
+        }
+        mStarts[mDepth] = mSize;
+        mCounts[mDepth] = 0;
+        isObjects[mDepth] = isObject;
+        mDepth++;
+        //预留fixmap/fixarray的1个字节
+        writeByte(0);
+        return this;
+    }
+
+    private JsonWriter close(boolean isObject) {
+        if (mDepth == 0 || isObjects[mDepth - 1] != isObject)
+            throw new IllegalStateException("Nesting problem.");
+        if (mDeferredName != null)
+            throw new IllegalStateException("Dangling name: " + mDeferredName);
+
+        mDepth--;
+        int start = mStarts[mDepth];
+        int count = mCounts[mDepth];
+        if (count < 16) {
+            mBuffer[start] = (byte) ((isObject ? 0x80 : 0x90) | count);
+        } else if (count <= 0xFFFF) {
+            shift(start + 1, 2);
+            mBuffer[start] = (byte) (isObject ? 0xde : 0xdc);
+            mBuffer[start + 1] = (byte) (count >> 8);
+            mBuffer[start + 2] = (byte) count;
+        } else {
+            shift(start + 1, 4);
+            mBuffer[start] = (byte) (isObject ? 0xdf : 0xdd);
+            mBuffer[start + 1] = (byte) (count >> 24);
+            mBuffer[start + 2] = (byte) (count >> 16);
+            mBuffer[start + 3] = (byte) (count >> 8);
+            mBuffer[start + 4] = (byte) count;
+        }
+        return this;
+    }
+
+    /** 写入值之前写入名称，并记录元素个数 */
+    private void beforeValue() {
+        if (mDepth == 0)
+            return;
+
+        int index = mDepth - 1;
+        if (isObjects[index]) {
+            if (mDeferredName == null)
+                throw new IllegalStateException("Nesting problem.");
+            writeString(mDeferredName);
+            mDeferredName = null;
+        }
+        mCounts[index]++;
+    }
+
+    /** from之后的内容后移distance个字节 */
+    private void shift(int from, int distance) {
+        ensureCapacity(distance);
+        System.arraycopy(mBuffer, from, mBuffer, from + distance, mSize - from);
+        mSize += distance;
+    }
+
+    private void writeInteger(long value) {
+        ensureCapacity(9);
+        byte[] buffer = mBuffer;
+        if (value >= 0) {
+            if (value < 0x80) {
+                buffer[mSize++] = (byte) value;
+            } else if (value <= 0xFF) {
+                buffer[mSize++] = (byte) 0xcc;
+                buffer[mSize++] = (byte) value;
+            } else if (value <= 0xFFFF) {
+                buffer[mSize++] = (byte) 0xcd;
+                writeShort((int) value);
+            } else if (value <= 0xFFFFFFFFL) {
+                buffer[mSize++] = (byte) 0xce;
+                writeInt((int) value);
+            } else {
+                buffer[mSize++] = (byte) 0xcf;
+                writeLong(value);
+            }
+        } else {
+            if (value >= -32) {
+                buffer[mSize++] = (byte) value;
+            } else if (value >= Byte.MIN_VALUE) {
+                buffer[mSize++] = (byte) 0xd0;
+                buffer[mSize++] = (byte) value;
+            } else if (value >= Short.MIN_VALUE) {
+                buffer[mSize++] = (byte) 0xd1;
+                writeShort((int) value);
+            } else if (value >= Integer.MIN_VALUE) {
+                buffer[mSize++] = (byte) 0xd2;
+                writeInt((int) value);
+            } else {
+                buffer[mSize++] = (byte) 0xd3;
+                writeLong(value);
+            }
+        }
+    }
+
+    /** UTF-8编码，单独的代理字符和String.getBytes一样写入'?' */
+    private void writeString(String value) {
+        int length = value.length();
+        int byteCount = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byteCount++;
+            } else if (c < 0x800) {
+                byteCount += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                byteCount += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                byteCount++;
+            } else {
+                byteCount += 3;
+            }
+        }
+
+        ensureCapacity(5 + byteCount);
+        byte[] buffer = mBuffer;
+        if (byteCount < 32) {
+            buffer[mSize++] = (byte) (0xa0 | byteCount);
+        } else if (byteCount <= 0xFF) {
+            buffer[mSize++] = (byte) 0xd9;
+            buffer[mSize++] = (byte) byteCount;
+        } else if (byteCount <= 0xFFFF) {
+            buffer[mSize++] = (byte) 0xda;
+            writeShort(byteCount);
+        } else {
+            buffer[mSize++] = (byte) 0xdb;
+            writeInt(byteCount);
+        }
+
+        int position = mSize;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xc0 | c >> 6);
+                buffer[position++] = (byte) (0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xf0 | codePoint >> 18);
+                buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3f);
+            } else if (Character.isSurrogate(c)) {
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xe0 | c >> 12);
+                buffer[position++] = (byte) (0x80 | c >> 6 & 0x3f);
+                buffer[position++] = (byte) (0x80 | c & 0x3f);
+            }
+        }
+        mSize = position;
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        mBuffer[mSize++] = (byte) value;
+    }
+
+    private void writeShort(int value) {
+        mBuffer[mSize++] = (byte) (value >> 8);
+        mBuffer[mSize++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        mBuffer[mSize++] = (byte) (value >> 24);
+        mBuffer[mSize++] = (byte) (value >> 16);
+        mBuffer[mSize++] = (byte) (value >> 8);
+        mBuffer[mSize++] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) (value >> 32));
+        writeInt((int) value);
+    }
+
+    private void ensureCapacity(int count) {
+        if (mSize + count > mBuffer.length)
+            mBuffer = Arrays.copyOf(mBuffer, Math.max(mBuffer.length * 2, mSize + count));
+    }
+}
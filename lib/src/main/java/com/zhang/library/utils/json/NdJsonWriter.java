@@ -0,0 +1,101 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 写入换行分隔的Json（NDJSON），每行一个元素，用于导出日志、事件等可以按行追加和读取的数据
+ * <p>
+ * 元素直接序列化到输出中，内存占用不随数量增长，写入完成后需要调用{@link #close()}关闭输出
+ *
+ * @param <T> 元素类型
+ *
+ * @author ZhangXiaoMing 2026-10-18 21:10 周日
+ */
+public class NdJsonWriter<T> implements Closeable, Flushable {
+
+    private final Writer mOut;
+    private final JsonWriter mWriter;
+    private final TypeAdapter<T> mAdapter;
+
+    private boolean isClosed;
+    private int mCount;
+
+    /**
+     * @param out     输出
+     * @param writer  写入out的Json写入器，不能设置缩进
+     * @param adapter 元素的序列化器
+     */
+    public NdJsonWriter(Writer out, JsonWriter writer, TypeAdapter<T> adapter) {
+        mOut = out;
+        mWriter = writer;
+        mAdapter = adapter;
+        //每行都是一个顶层的值
+        mWriter.setLenient(true);
+    }
+
+    /**
+     * 写入一行
+     *
+     * @param element 元素
+     */
+    public NdJsonWriter<T> write(T element) {
+        if (isClosed)
+            throw new IllegalStateException("NdJsonWriter is closed!");
+
+        try {
+            mAdapter.write(mWriter, element);
+            //JsonWriter没有缓冲，值写完后可以直接在输出中追加换行
+            mOut.write('\n');
+            mCount++;
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return this;
+    }
+
+    /**
+     * 写入多行
+     *
+     * @param elements 元素
+     */
+    public NdJsonWriter<T> writeAll(Iterable<? extends T> elements) {
+        for (T element : elements) {
+            write(element);
+        }
+        return this;
+    }
+
+    /** 获取已写入的行数 */
+    public int getCount() {
+        return mCount;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            mWriter.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (isClosed)
+            return;
+
+        isClosed = true;
+        try {
+            mOut.close();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+}
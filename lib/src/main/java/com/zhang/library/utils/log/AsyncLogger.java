@@ -0,0 +1,377 @@
+package com.zhang.library.utils.log;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 异步日志
+ * <p>
+ * 写入线程把日志填充到预先分配的环形队列中（无锁，多写单读），由单独的消费线程格式化后交给{@link LogSink}输出，
+ * 日志的格式化和IO不再占用写入线程
+ *
+ * @author ZhangXiaoMing 2026-10-18 13:15 周日
+ */
+public class AsyncLogger {
+
+    /** 默认队列长度 */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** 消费线程空闲时的最长休眠时间 */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    /** 阻塞写入时的休眠时间 */
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    /** 阻塞写入时，休眠前的自旋次数 */
+    private static final int BLOCK_SPIN_COUNT = 64;
+
+    private final int mCapacity;
+    private final int mMask;
+    private final OverflowPolicy mPolicy;
+
+    /** 预先分配的日志事件 */
+    private final LogEvent[] mSlots;
+    /** 每个位置已发布的序号，消费线程以此判断写入是否完成 */
+    private final AtomicLongArray mPublished;
+    /** 下一个待消费的序号 */
+    private final AtomicLong mHead = new AtomicLong();
+    /** 下一个待写入的序号 */
+    private final AtomicLong mTail = new AtomicLong();
+    /** 正在写入的线程数量，停止时消费线程等它们写完再退出 */
+    private final AtomicInteger mWriterCount = new AtomicInteger();
+    /** 丢弃的日志数量 */
+    private final AtomicLong mDroppedCount = new AtomicLong();
+    /** 已输出并刷新的序号 */
+    private volatile long mFlushedSequence;
+
+    private final List<LogSink> mSinkList = new CopyOnWriteArrayList<>();
+
+    private volatile Thread mConsumerThread;
+    private volatile boolean isRunning;
+    private volatile boolean isWaiting;
+    /** stop()等待超时，消费线程输出完剩余日志后关闭输出端 */
+    private boolean isClosePending;
+
+    public AsyncLogger() {
+        this(DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * @param capacity 队列长度，会向上取整为2的幂
+     * @param policy   队列写满时的处理策略
+     */
+    public AsyncLogger(int capacity, OverflowPolicy policy) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive!");
+        if (policy == null)
+            throw new NullPointerException("policy is null!");
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+
+        mCapacity = size;
+        mMask = size - 1;
+        mPolicy = policy;
+
+        mSlots = new LogEvent[size];
+        mPublished = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            mSlots[i] = new LogEvent();
+            mPublished.set(i, -1);
+        }
+    }
+
+    /**
+     * 添加输出端
+     *
+     * @param sink 输出端
+     */
+    public AsyncLogger addSink(LogSink sink) {
+        if (sink != null && !mSinkList.contains(sink))
+            mSinkList.add(sink);
+        return this;
+    }
+
+    /**
+     * 移除输出端
+     *
+     * @param sink 输出端
+     */
+    public AsyncLogger removeSink(LogSink sink) {
+        mSinkList.remove(sink);
+        return this;
+    }
+
+    /**
+     * 启动消费线程
+     *
+     * @return <b>true:</b>已经在运行或者启动成功；<b>false:</b>上次{@link #stop(long)}超时，之前的消费线程还在输出剩余的日志
+     */
+    public synchronized boolean start() {
+        if (isRunning)
+            return true;
+        //只能有一个消费线程
+        if (mConsumerThread != null)
+            return false;
+
+        isRunning = true;
+        isClosePending = false;
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    consume();
+                } finally {
+                    onConsumerExit();
+                }
+            }
+        }, "LogUtils-Async");
+        thread.setDaemon(true);
+        mConsumerThread = thread;
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 停止消费线程，队列中剩余的日志会先输出完，然后关闭输出端；
+     * 超时后不再等待，由消费线程输出完之后关闭输出端
+     *
+     * @param timeoutMillis 等待消费线程结束的最长时间
+     */
+    public void stop(long timeoutMillis) {
+        Thread thread;
+        synchronized (this) {
+            if (!isRunning)
+                return;
+
+            isRunning = false;
+            thread = mConsumerThread;
+        }
+
+        //不持有锁等待，消费线程退出时需要获取锁
+        LockSupport.unpark(thread);
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            //等待期间重新启动了，输出端继续使用
+            if (isRunning)
+                return;
+            if (mConsumerThread == thread)
+                isClosePending = true;
+            else
+                closeSinks();
+        }
+    }
+
+    /** 消费线程退出，stop()已经超时返回时由这里关闭输出端 */
+    private synchronized void onConsumerExit() {
+        mConsumerThread = null;
+        if (isClosePending) {
+            isClosePending = false;
+            closeSinks();
+        }
+    }
+
+    private void closeSinks() {
+        for (LogSink sink : mSinkList) {
+            try {
+                sink.close();
+            } catch (Throwable e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /** 是否正在运行 */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * 写入日志
+     *
+     * @param priority 日志等级
+     * @param tag      日志标签
+     * @param method   调用方法名，没有时传null
+     * @param line     调用行号
+     * @param format   日志内容或格式
+     * @param args     格式参数，在消费线程中格式化，写入后不要再修改
+     *
+     * @return <b>true:</b>写入成功；<b>false:</b>未启动或日志被丢弃
+     */
+    public boolean log(int priority, String tag, String method, int line, String format, Object[] args) {
+        //先登记再检查isRunning，消费线程看到没有正在写入的线程后才会退出
+        mWriterCount.incrementAndGet();
+        try {
+            if (!isRunning)
+                return false;
+
+            long sequence = claim();
+            if (sequence < 0) {
+                mDroppedCount.incrementAndGet();
+                return false;
+            }
+
+            int index = (int) (sequence & mMask);
+            mSlots[index].set(priority, tag, method, line, format, args);
+            mPublished.set(index, sequence);
+        } finally {
+            mWriterCount.decrementAndGet();
+        }
+
+        Thread thread = mConsumerThread;
+        if (isWaiting && thread != null)
+            LockSupport.unpark(thread);
+        return true;
+    }
+
+    /**
+     * 申请写入位置
+     *
+     * @return 写入序号，-1表示日志被丢弃
+     */
+    private long claim() {
+        int spins = 0;
+        while (true) {
+            long tail = mTail.get();
+            long head = mHead.get();
+            if (tail - head < mCapacity) {
+                if (mTail.compareAndSet(tail, tail + 1))
+                    return tail;
+                continue;
+            }
+
+            switch (mPolicy) {
+                case DROP_NEWEST:
+                    return -1;
+                case DROP_OLDEST:
+                    //只能丢弃已经写入完成的日志，否则可能和仍在写入的线程冲突
+                    if (mPublished.get((int) (head & mMask)) == head && mHead.compareAndSet(head, head + 1))
+                        mDroppedCount.incrementAndGet();
+                    else
+                        Thread.yield();
+                    break;
+                case BLOCK:
+                default:
+                    if (!isRunning)
+                        return -1;
+                    if (++spins < BLOCK_SPIN_COUNT)
+                        Thread.yield();
+                    else
+                        LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                    break;
+            }
+        }
+    }
+
+    /** 消费线程 */
+    private void consume() {
+        final LogEvent event = new LogEvent();
+        boolean dirty = false;
+
+        while (true) {
+            long head = mHead.get();
+            int index = (int) (head & mMask);
+            if (mPublished.get(index) == head) {
+                event.copyFrom(mSlots[index]);
+                //复制期间该日志可能被DROP_OLDEST丢弃并被新日志覆盖，此时放弃复制的内容
+                if (!mHead.compareAndSet(head, head + 1))
+                    continue;
+
+                dispatch(event);
+                event.clear();
+                dirty = true;
+                continue;
+            }
+
+            if (dirty) {
+                flushSinks();
+                dirty = false;
+            }
+            mFlushedSequence = head;
+
+            if (!isRunning && mWriterCount.get() == 0 && head >= mTail.get())
+                break;
+
+            if (!isRunning) {
+                //停止时还有线程在写入，等待它们发布
+                Thread.yield();
+                continue;
+            }
+
+            isWaiting = true;
+            if (mPublished.get(index) != head && isRunning)
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            isWaiting = false;
+        }
+    }
+
+    private void dispatch(LogEvent event) {
+        for (LogSink sink : mSinkList) {
+            try {
+                sink.write(event);
+            } catch (Throwable e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void flushSinks() {
+        for (LogSink sink : mSinkList) {
+            try {
+                sink.flush();
+            } catch (Throwable e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * 等待当前已写入的日志全部输出
+     *
+     * @param timeoutMillis 最长等待时间
+     *
+     * @return <b>true:</b>全部输出完成
+     */
+    public boolean flush(long timeoutMillis) {
+        final long target = mTail.get();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (mFlushedSequence < target) {
+            Thread thread = mConsumerThread;
+            if (thread == null || !thread.isAlive() || System.nanoTime() - deadline >= 0)
+                return false;
+
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /** 获取队列长度 */
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    /** 获取队列写满时的处理策略 */
+    public OverflowPolicy getPolicy() {
+        return mPolicy;
+    }
+
+    /** 获取被丢弃的日志数量 */
+    public long getDroppedCount() {
+        return mDroppedCount.get();
+    }
+
+    /** 获取等待输出的日志数量 */
+    public int getPendingCount() {
+        return (int) Math.max(0, mTail.get() - mHead.get());
+    }
+}
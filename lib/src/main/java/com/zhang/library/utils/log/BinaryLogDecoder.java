@@ -0,0 +1,237 @@
+package com.zhang.library.utils.log;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static com.zhang.library.utils.log.BinaryLogFormat.*;
+
+/**
+ * 二进制日志解码，把{@link BinaryLogEncoder}写入的文件还原为和{@link TextLogEncoder}相同格式的文本，时间按文件中记录的时区显示
+ * <p>
+ * 只依赖JDK，可以在电脑上直接运行：
+ * <pre>
+ * java com.zhang.library.utils.log.BinaryLogDecoder app-1760775600000.blog
+ * </pre>
+ *
+ * @author ZhangXiaoMing 2026-10-18 17:05 周日
+ */
+public class BinaryLogDecoder {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final SimpleDateFormat mDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.US);
+    private final List<String> mDictionary = new ArrayList<>();
+    private long mLastTime;
+
+    /**
+     * 解码日志文件
+     *
+     * @param file 日志文件
+     * @param out  输出的文本
+     */
+    public void decode(File file, Appendable out) throws IOException {
+        InputStream is = new FileInputStream(file);
+        try {
+            decode(is, out);
+        } finally {
+            is.close();
+        }
+    }
+
+    /**
+     * 解码日志数据
+     *
+     * @param is  日志数据
+     * @param out 输出的文本
+     */
+    public void decode(InputStream is, Appendable out) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+        mDictionary.clear();
+        mDictionary.add(null);
+
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC))
+            throw new IOException("Not a binary log file!");
+        int version = in.readUnsignedByte();
+        if (version != VERSION && version != VERSION_NO_ZONE)
+            throw new IOException("Unsupported binary log version: " + version);
+        mLastTime = in.readLong();
+        if (version == VERSION_NO_ZONE) {
+            mDateFormat.setTimeZone(TimeZone.getDefault());
+        } else {
+            int offset = in.readInt();
+            mDateFormat.setTimeZone(getTimeZone(readString(in), offset));
+        }
+
+        StringBuilder builder = new StringBuilder(256);
+        while (true) {
+            int type = in.read();
+            if (type == -1 || type == RECORD_END)
+                break;
+
+            switch (type) {
+                case RECORD_DEFINE:
+                    int id = (int) readVarLong(in);
+                    String value = readString(in);
+                    while (mDictionary.size() <= id) {
+                        mDictionary.add(null);
+                    }
+                    mDictionary.set(id, value);
+                    break;
+                case RECORD_EVENT:
+                    builder.setLength(0);
+                    readEvent(in, builder);
+                    out.append(builder);
+                    break;
+                default:
+                    throw new IOException("Unknown record type: " + type);
+            }
+        }
+    }
+
+    private void readEvent(DataInputStream in, StringBuilder builder) throws IOException {
+        int priority = in.readUnsignedByte();
+        int flags = in.readUnsignedByte();
+        String tag = readRef(in);
+        long time = mLastTime + decodeZigZag(readVarLong(in));
+        mLastTime = time;
+        long threadId = readVarLong(in);
+
+        String method = null;
+        long line = -1;
+        if ((flags & FLAG_CALL_SITE) != 0) {
+            method = readRef(in);
+            line = readVarLong(in);
+        }
+
+        String format = readRef(in);
+        int count = (int) readVarLong(in);
+        Object[] args = new Object[count];
+        for (int i = 0; i < count; i++) {
+            args[i] = readArg(in);
+        }
+
+        builder.append(mDateFormat.format(new Date(time)))
+                .append(' ')
+                .append(threadId)
+                .append(' ')
+                .append(TextLogEncoder.getPriorityChar(priority))
+                .append('/')
+                .append(tag)
+                .append(": ");
+        if (method != null)
+            builder.append('[').append(method).append(':').append(line).append("] ");
+        builder.append(formatMessage(format, args)).append('\n');
+    }
+
+    /** 按写入时的时区显示时间，解码的环境没有这个时区时使用写入时的偏移 */
+    private static TimeZone getTimeZone(String id, int offset) {
+        TimeZone timeZone = TimeZone.getTimeZone(id);
+        if (timeZone.getID().equals(id))
+            return timeZone;
+
+        int minutes = Math.abs(offset) / 60000;
+        return TimeZone.getTimeZone(String.format(Locale.US, "GMT%c%02d:%02d", offset < 0 ? '-' : '+', minutes / 60, minutes % 60));
+    }
+
+    private static String formatMessage(String format, Object[] args) {
+        if (format == null || format.length() == 0)
+            return " ";
+        if (args.length == 0)
+            return format;
+
+        try {
+            return String.format(Locale.US, format, args);
+        } catch (IllegalFormatException e) {
+            return format + " " + Arrays.toString(args);
+        }
+    }
+
+    private Object readArg(DataInputStream in) throws IOException {
+        int type = in.readUnsignedByte();
+        switch (type) {
+            case ARG_NULL:
+                return null;
+            case ARG_INT:
+                return (int) decodeZigZag(readVarLong(in));
+            case ARG_LONG:
+                return decodeZigZag(readVarLong(in));
+            case ARG_DOUBLE:
+                return in.readDouble();
+            case ARG_FLOAT:
+                return in.readFloat();
+            case ARG_BOOLEAN:
+                return in.readUnsignedByte() != 0;
+            case ARG_STRING:
+                return readString(in);
+            case ARG_CHAR:
+                return (char) readVarLong(in);
+            case ARG_BYTE:
+                return in.readByte();
+            case ARG_SHORT:
+                return (short) decodeZigZag(readVarLong(in));
+            default:
+                throw new IOException("Unknown argument type: " + type);
+        }
+    }
+
+    private String readRef(DataInputStream in) throws IOException {
+        int ref = (int) readVarLong(in);
+        if (ref == 0)
+            return readString(in);
+        if (ref >= mDictionary.size() || mDictionary.get(ref) == null)
+            throw new IOException("Undefined dictionary id: " + ref);
+        return mDictionary.get(ref);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = (int) readVarLong(in);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b == -1)
+                throw new EOFException();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("Malformed varint!");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: BinaryLogDecoder <file>...");
+            return;
+        }
+
+        Writer writer = new OutputStreamWriter(System.out, UTF_8);
+        BinaryLogDecoder decoder = new BinaryLogDecoder();
+        for (String path : args) {
+            decoder.decode(new File(path), writer);
+        }
+        writer.flush();
+    }
+}
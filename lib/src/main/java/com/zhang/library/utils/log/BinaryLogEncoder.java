@@ -0,0 +1,245 @@
+package com.zhang.library.utils.log;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static com.zhang.library.utils.log.BinaryLogFormat.*;
+
+/**
+ * 二进制日志编码，格式见{@link BinaryLogFormat}
+ * <p>
+ * 日志格式、标签和方法名在每个文件中只写入一次字典，之后以id引用；基本类型和字符串参数按类型写入，不在写入时格式化，
+ * 其他类型的参数（Date、BigDecimal等）无法还原，写入格式化后的内容，和{@link TextLogEncoder}的结果一致。
+ * 使用{@link BinaryLogDecoder}还原为文本
+ *
+ * @author ZhangXiaoMing 2026-10-18 16:48 周日
+ */
+public class BinaryLogEncoder implements LogEncoder {
+
+    /** 单个文件的字典上限，超过后的字符串直接写入记录 */
+    private static final int MAX_DICTIONARY_SIZE = 8192;
+
+    private final Map<String, Integer> mDictionary = new HashMap<>();
+    /** 当前记录中新加入字典的字符串，空间不足时回滚 */
+    private final List<String> mPendingList = new ArrayList<>();
+    private long mLastTime;
+
+    @Override
+    public String getFileSuffix() {
+        return ".blog";
+    }
+
+    @Override
+    public boolean isResumable() {
+        //继续写入需要恢复字典，直接使用新文件
+        return false;
+    }
+
+    @Override
+    public boolean begin(ByteBuffer out, long time) {
+        mDictionary.clear();
+        mPendingList.clear();
+        mLastTime = time;
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            out.put(MAGIC);
+            out.put((byte) VERSION);
+            out.putLong(time);
+            out.putInt(timeZone.getOffset(time));
+            writeString(out, timeZone.getID());
+            return true;
+        } catch (BufferOverflowException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean encode(LogEvent event, ByteBuffer out) {
+        mPendingList.clear();
+        try {
+            String method = event.getMethod();
+            int tagRef = intern(event.getTag(), out);
+            int methodRef = method == null ? 0 : intern(method, out);
+            Object[] args = event.getArgs();
+            String format = event.getFormat();
+            if (args != null && !isEncodable(args)) {
+                format = formatMessage(event);
+                args = null;
+            }
+            //没有参数的日志内容一般是拼接的，不加入字典
+            int formatRef = args == null ? 0 : intern(format, out);
+
+            out.put((byte) RECORD_EVENT);
+            out.put((byte) event.getPriority());
+            out.put((byte) (method == null ? 0 : FLAG_CALL_SITE));
+            writeRef(out, tagRef, event.getTag());
+            writeVarLong(out, encodeZigZag(event.getTimeMillis() - mLastTime));
+            writeVarLong(out, event.getThreadId());
+            if (method != null) {
+                writeRef(out, methodRef, method);
+                writeVarLong(out, event.getLine());
+            }
+            writeRef(out, formatRef, format);
+
+            int count = args == null ? 0 : args.length;
+            writeVarLong(out, count);
+            for (int i = 0; i < count; i++) {
+                writeArg(out, args[i]);
+            }
+
+            mLastTime = event.getTimeMillis();
+            return true;
+        } catch (BufferOverflowException e) {
+            for (String value : mPendingList) {
+                mDictionary.remove(value);
+            }
+            return false;
+        } finally {
+            mPendingList.clear();
+        }
+    }
+
+    /**
+     * 获取字符串的字典id，首次出现时写入字典
+     *
+     * @return 0表示不使用字典
+     */
+    private int intern(String value, ByteBuffer out) {
+        if (value == null)
+            return 0;
+
+        Integer id = mDictionary.get(value);
+        if (id != null)
+            return id;
+
+        if (mDictionary.size() >= MAX_DICTIONARY_SIZE)
+            return 0;
+
+        int newId = mDictionary.size() + 1;
+        mDictionary.put(value, newId);
+        mPendingList.add(value);
+
+        out.put((byte) RECORD_DEFINE);
+        writeVarLong(out, newId);
+        writeString(out, value);
+        return newId;
+    }
+
+    /** 参数是否都能按类型写入 */
+    private static boolean isEncodable(Object[] args) {
+        for (Object arg : args) {
+            if (arg != null && !(arg instanceof String) && !(arg instanceof Integer) && !(arg instanceof Long)
+                    && !(arg instanceof Double) && !(arg instanceof Float) && !(arg instanceof Boolean)
+                    && !(arg instanceof Character) && !(arg instanceof Byte) && !(arg instanceof Short))
+                return false;
+        }
+        return true;
+    }
+
+    /** 格式化日志内容，格式错误时和{@link BinaryLogDecoder}的处理一致 */
+    private static String formatMessage(LogEvent event) {
+        try {
+            return event.getMessage();
+        } catch (IllegalFormatException e) {
+            return event.getFormat() + " " + Arrays.toString(event.getArgs());
+        }
+    }
+
+    private static void writeRef(ByteBuffer out, int ref, String value) {
+        writeVarLong(out, ref);
+        if (ref == 0)
+            writeString(out, value == null ? "" : value);
+    }
+
+    private static void writeArg(ByteBuffer out, Object arg) {
+        if (arg == null) {
+            out.put((byte) ARG_NULL);
+        } else if (arg instanceof Integer) {
+            out.put((byte) ARG_INT);
+            writeVarLong(out, encodeZigZag((Integer) arg));
+        } else if (arg instanceof Long) {
+            out.put((byte) ARG_LONG);
+            writeVarLong(out, encodeZigZag((Long) arg));
+        } else if (arg instanceof Double) {
+            out.put((byte) ARG_DOUBLE);
+            out.putDouble((Double) arg);
+        } else if (arg instanceof Float) {
+            out.put((byte) ARG_FLOAT);
+            out.putFloat((Float) arg);
+        } else if (arg instanceof Boolean) {
+            out.put((byte) ARG_BOOLEAN);
+            out.put((byte) ((Boolean) arg ? 1 : 0));
+        } else if (arg instanceof Character) {
+            out.put((byte) ARG_CHAR);
+            writeVarLong(out, (Character) arg);
+        } else if (arg instanceof Byte) {
+            out.put((byte) ARG_BYTE);
+            out.put((Byte) arg);
+        } else if (arg instanceof Short) {
+            out.put((byte) ARG_SHORT);
+            writeVarLong(out, encodeZigZag((Short) arg));
+        } else {
+            out.put((byte) ARG_STRING);
+            writeString(out, (String) arg);
+        }
+    }
+
+    private static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /** 写入UTF-8字符串，不创建中间的byte数组 */
+    private static void writeString(ByteBuffer out, String value) {
+        int length = value.length();
+        int utf8Length = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                utf8Length++;
+            } else if (c < 0x800) {
+                utf8Length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                utf8Length += 4;
+                i++;
+            } else {
+                utf8Length += 3;
+            }
+        }
+
+        writeVarLong(out, utf8Length);
+        if (out.remaining() < utf8Length)
+            throw new BufferOverflowException();
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >> 18)));
+                out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                //单独的代理字符按3字节写入
+                out.put((byte) (0xE0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+}
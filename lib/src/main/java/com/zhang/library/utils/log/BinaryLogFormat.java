@@ -0,0 +1,56 @@
+package com.zhang.library.utils.log;
+
+/**
+ * 二进制日志格式定义，{@link BinaryLogEncoder}和{@link BinaryLogDecoder}共用
+ * <p>
+ * 文件头：MAGIC(4字节) + VERSION(1字节) + 文件创建时间(8字节，大端) + 时区偏移(4字节，毫秒，大端) + 时区id(字符串)，
+ * 版本1没有时区，按解码时的默认时区显示
+ * <p>
+ * 之后是若干条记录，每条记录以1字节类型开头，类型为0表示数据结束：
+ * <ul>
+ * <li>{@link #RECORD_DEFINE}：字典id(varint) + 字符串</li>
+ * <li>{@link #RECORD_EVENT}：等级(1字节) + 标记(1字节) + 标签引用 + 时间差(zigzag varint，相对上一条日志)
+ * + 线程id(varint) + [方法名引用 + 行号(varint)] + 格式引用 + 参数个数(varint) + 参数，
+ * 有基本类型和字符串以外的参数时写入格式化后的内容，参数个数为0</li>
+ * </ul>
+ * 字符串为UTF-8字节长度(varint) + UTF-8字节；引用为varint，0表示后面紧跟字符串，大于0表示字典id；
+ * 参数为1字节类型 + 内容，整数为zigzag varint，浮点数为IEEE 754大端字节
+ *
+ * @author ZhangXiaoMing 2026-10-18 16:40 周日
+ */
+public final class BinaryLogFormat {
+
+    public static final byte[] MAGIC = {'Z', 'L', 'O', 'G'};
+    public static final int VERSION = 2;
+    /** 没有时区的版本 */
+    public static final int VERSION_NO_ZONE = 1;
+
+    public static final int RECORD_END = 0;
+    public static final int RECORD_DEFINE = 1;
+    public static final int RECORD_EVENT = 2;
+
+    /** 标记：包含调用位置 */
+    public static final int FLAG_CALL_SITE = 1;
+
+    public static final int ARG_NULL = 0;
+    public static final int ARG_INT = 1;
+    public static final int ARG_LONG = 2;
+    public static final int ARG_DOUBLE = 3;
+    public static final int ARG_FLOAT = 4;
+    public static final int ARG_BOOLEAN = 5;
+    public static final int ARG_STRING = 6;
+    public static final int ARG_CHAR = 7;
+    public static final int ARG_BYTE = 8;
+    public static final int ARG_SHORT = 9;
+
+    private BinaryLogFormat() {
+    }
+
+    public static long encodeZigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static long decodeZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.zhang.library.utils.log;
+
+/**
+ * 日志调用位置，由{@link CallerResolver}解析并缓存
+ *
+ * @author ZhangXiaoMing 2026-10-18 15:10 周日
+ */
+public final class CallSite {
+
+    private final String mClassName;
+    private final String mTag;
+    private final String mMethod;
+    private final int mLine;
+    /** 日志前缀，例如：[onCreate:25] */
+    private final String mLabel;
+
+    CallSite(String className, String tag, String method, int line) {
+        mClassName = className;
+        mTag = tag;
+        mMethod = method;
+        mLine = line;
+        mLabel = "[" + method + ":" + line + "] ";
+    }
+
+    /** 调用类的完整类名 */
+    public String getClassName() {
+        return mClassName;
+    }
+
+    /** 由文件名得到的日志标签 */
+    public String getTag() {
+        return mTag;
+    }
+
+    /** 调用方法名 */
+    public String getMethod() {
+        return mMethod;
+    }
+
+    /** 调用行号 */
+    public int getLine() {
+        return mLine;
+    }
+
+    /** 日志前缀，例如：[onCreate:25] */
+    public String getLabel() {
+        return mLabel;
+    }
+}
@@ -0,0 +1,100 @@
+package com.zhang.library.utils.log;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 日志调用位置解析
+ * <p>
+ * 每次日志只获取一次调用栈，从栈顶跳过日志工具自身的帧后只解析第一个业务帧；
+ * 同一个调用位置的标签和前缀只计算一次，之后从缓存中获取
+ *
+ * @author ZhangXiaoMing 2026-10-18 15:16 周日
+ */
+public final class CallerResolver {
+
+    /** 缓存上限，超过后清空重新缓存 */
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /** 需要跳过的日志工具类 */
+    private static final Set<String> SKIP_CLASS_SET = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private static final ConcurrentHashMap<StackTraceElement, CallSite> CACHE = new ConcurrentHashMap<>();
+
+    static {
+        SKIP_CLASS_SET.add(CallerResolver.class.getName());
+    }
+
+    private CallerResolver() {
+    }
+
+    /**
+     * 添加需要跳过的类，这些类中的帧不会被当作调用位置
+     *
+     * @param clazz 日志工具类
+     */
+    public static void skip(Class<?> clazz) {
+        if (clazz != null)
+            SKIP_CLASS_SET.add(clazz.getName());
+    }
+
+    /** 获取当前线程的日志调用位置 */
+    public static CallSite resolve() {
+        return resolve(new Throwable().getStackTrace());
+    }
+
+    /**
+     * 获取日志调用位置
+     *
+     * @param traceElements 调用栈
+     */
+    public static CallSite resolve(StackTraceElement[] traceElements) {
+        if (traceElements == null || traceElements.length == 0)
+            return null;
+
+        StackTraceElement element = null;
+        for (StackTraceElement item : traceElements) {
+            if (!SKIP_CLASS_SET.contains(item.getClassName())) {
+                element = item;
+                break;
+            }
+        }
+        if (element == null)
+            element = traceElements[Math.min(2, traceElements.length - 1)];
+
+        CallSite site = CACHE.get(element);
+        if (site == null) {
+            site = new CallSite(element.getClassName(), getTag(element), element.getMethodName(), element.getLineNumber());
+            if (CACHE.size() >= MAX_CACHE_SIZE)
+                CACHE.clear();
+            CACHE.put(element, site);
+        }
+        return site;
+    }
+
+    /** 由文件名得到日志标签，没有文件名时使用简单类名 */
+    private static String getTag(StackTraceElement element) {
+        String fileName = element.getFileName();
+        if (fileName == null) {
+            String className = element.getClassName();
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+
+        int indexOf = fileName.indexOf(".java");
+        if (indexOf == -1) {
+            indexOf = fileName.indexOf(".Java");
+        }
+        if (indexOf == -1) {
+            indexOf = fileName.indexOf(".kt");
+        }
+        if (indexOf == -1) {
+            return fileName;
+        }
+        return fileName.substring(0, indexOf);
+    }
+
+    /** 清空缓存 */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+}
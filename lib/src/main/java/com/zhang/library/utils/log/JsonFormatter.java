@@ -0,0 +1,103 @@
+package com.zhang.library.utils.log;
+
+import com.zhang.library.utils.JsonUtils;
+
+/**
+ * JSON格式，例如：
+ * <pre>
+ * {"msg":"loaded","userId":1001,"latencyMs":35}
+ * </pre>
+ * 基本类型和字符串直接写入，其他对象通过{@link JsonUtils#toJson(Object)}序列化
+ *
+ * @author ZhangXiaoMing 2026-10-18 18:20 周日
+ */
+public class JsonFormatter implements StructuredFormatter {
+
+    /** 日志内容的字段名 */
+    public static final String KEY_MESSAGE = "msg";
+
+    private static final String HEX_DIGITS = "0123456789abcdef";
+
+    @Override
+    public void format(String message, LogFields fields, StringBuilder out) {
+        out.append('{');
+        boolean first = true;
+        if (message != null) {
+            appendString(out, KEY_MESSAGE);
+            out.append(':');
+            appendString(out, message);
+            first = false;
+        }
+
+        for (int i = 0, size = fields.size(); i < size; i++) {
+            if (!first)
+                out.append(',');
+            first = false;
+
+            appendString(out, fields.getKey(i));
+            out.append(':');
+            switch (fields.getType(i)) {
+                case LogFields.TYPE_LONG:
+                    out.append(fields.getLong(i));
+                    break;
+                case LogFields.TYPE_DOUBLE:
+                    double value = fields.getDouble(i);
+                    if (Double.isNaN(value) || Double.isInfinite(value))
+                        out.append('"').append(value).append('"');
+                    else
+                        out.append(value);
+                    break;
+                case LogFields.TYPE_BOOLEAN:
+                    out.append(fields.getBoolean(i));
+                    break;
+                case LogFields.TYPE_STRING:
+                    appendString(out, (String) fields.getObject(i));
+                    break;
+                default:
+                    out.append(JsonUtils.toJson(fields.getObject(i)));
+                    break;
+            }
+        }
+        out.append('}');
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        out.append("\\u");
+                        for (int shift = 12; shift >= 0; shift -= 4) {
+                            out.append(HEX_DIGITS.charAt((c >> shift) & 0xF));
+                        }
+                    } else {
+                        out.append(c);
+                    }
+                    break;
+            }
+        }
+        out.append('"');
+    }
+}
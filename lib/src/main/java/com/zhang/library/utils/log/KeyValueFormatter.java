@@ -0,0 +1,64 @@
+package com.zhang.library.utils.log;
+
+/**
+ * key=value格式，例如：
+ * <pre>
+ * loaded userId=1001 latencyMs=35 name="Tom Lee"
+ * </pre>
+ * 含有空格、引号或等号的字符串会加上引号并转义
+ *
+ * @author ZhangXiaoMing 2026-10-18 18:15 周日
+ */
+public class KeyValueFormatter implements StructuredFormatter {
+
+    @Override
+    public void format(String message, LogFields fields, StringBuilder out) {
+        if (message != null)
+            out.append(message);
+
+        for (int i = 0, size = fields.size(); i < size; i++) {
+            if (out.length() > 0)
+                out.append(' ');
+            out.append(fields.getKey(i)).append('=');
+
+            switch (fields.getType(i)) {
+                case LogFields.TYPE_LONG:
+                    out.append(fields.getLong(i));
+                    break;
+                case LogFields.TYPE_DOUBLE:
+                    out.append(fields.getDouble(i));
+                    break;
+                case LogFields.TYPE_BOOLEAN:
+                    out.append(fields.getBoolean(i));
+                    break;
+                default:
+                    appendValue(out, String.valueOf(fields.getObject(i)));
+                    break;
+            }
+        }
+    }
+
+    private static void appendValue(StringBuilder out, String value) {
+        boolean needQuote = value.length() == 0;
+        for (int i = 0; i < value.length() && !needQuote; i++) {
+            char c = value.charAt(i);
+            needQuote = c <= ' ' || c == '"' || c == '=';
+        }
+        if (!needQuote) {
+            out.append(value);
+            return;
+        }
+
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\')
+                out.append('\\').append(c);
+            else if (c == '\n')
+                out.append("\\n");
+            else
+                out.append(c);
+        }
+        out.append('"');
+    }
+}
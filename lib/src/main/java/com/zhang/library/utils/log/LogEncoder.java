@@ -0,0 +1,41 @@
+package com.zhang.library.utils.log;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 日志编码，把日志事件写入{@link MappedFileSink}的映射内存
+ *
+ * @author ZhangXiaoMing 2026-10-18 16:20 周日
+ */
+public interface LogEncoder {
+
+    /** 日志文件后缀，例如：.log */
+    String getFileSuffix();
+
+    /**
+     * 是否可以在已有文件的末尾继续写入
+     * <p>
+     * 可以继续写入的编码要保证写入的内容不含0字节，文件中第一个0字节之后都视为未写入
+     */
+    boolean isResumable();
+
+    /**
+     * 开始一个新的日志文件，可以在此写入文件头并重置编码状态
+     *
+     * @param out  映射内存
+     * @param time 文件创建时间
+     *
+     * @return <b>false:</b>空间不足
+     */
+    boolean begin(ByteBuffer out, long time);
+
+    /**
+     * 编码一条日志
+     *
+     * @param event 日志事件
+     * @param out   映射内存
+     *
+     * @return <b>false:</b>空间不足，调用方会丢弃已写入的部分
+     */
+    boolean encode(LogEvent event, ByteBuffer out);
+}
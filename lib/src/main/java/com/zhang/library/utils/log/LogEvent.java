@@ -0,0 +1,143 @@
+package com.zhang.library.utils.log;
+
+/**
+ * 日志事件
+ * <p>
+ * 事件对象在{@link AsyncLogger}的环形队列中预先分配并循环复用，写入方只填充字段，
+ * 格式化在消费线程中完成，因此{@link LogSink}不能持有事件对象的引用
+ *
+ * @author ZhangXiaoMing 2026-10-18 13:05 周日
+ */
+public final class LogEvent {
+
+    /** 日志等级，取值同{@link android.util.Log#VERBOSE}等 */
+    int priority;
+    /** 日志标签 */
+    String tag;
+    /** 调用方法名，未开启追踪时为null */
+    String method;
+    /** 调用行号，未开启追踪时为-1 */
+    int line;
+    /** 日志内容或格式 */
+    String format;
+    /** 格式参数 */
+    Object[] args;
+    /** 日志时间戳，毫秒为单位 */
+    long timeMillis;
+    /** 写入线程id */
+    long threadId;
+
+    /** 格式化后的内容 */
+    private String message;
+
+    public LogEvent() {
+        line = -1;
+    }
+
+    /**
+     * 填充事件
+     *
+     * @param priority 日志等级
+     * @param tag      日志标签
+     * @param method   调用方法名
+     * @param line     调用行号
+     * @param format   日志内容或格式
+     * @param args     格式参数
+     */
+    public void set(int priority, String tag, String method, int line, String format, Object[] args) {
+        this.priority = priority;
+        this.tag = tag;
+        this.method = method;
+        this.line = line;
+        this.format = format;
+        this.args = args;
+        this.timeMillis = System.currentTimeMillis();
+        this.threadId = Thread.currentThread().getId();
+        this.message = null;
+    }
+
+    /**
+     * 复制事件内容
+     *
+     * @param other 源事件
+     */
+    void copyFrom(LogEvent other) {
+        priority = other.priority;
+        tag = other.tag;
+        method = other.method;
+        line = other.line;
+        format = other.format;
+        args = other.args;
+        timeMillis = other.timeMillis;
+        threadId = other.threadId;
+        message = other.message;
+    }
+
+    /** 释放引用，避免队列长期持有日志参数 */
+    void clear() {
+        tag = null;
+        method = null;
+        format = null;
+        args = null;
+        message = null;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public long getThreadId() {
+        return threadId;
+    }
+
+    /** 获取格式化后的日志内容 */
+    public String getMessage() {
+        if (message == null)
+            message = LogFormatter.format(null, format, args);
+        return message;
+    }
+
+    /** 获取完整的日志内容，开启追踪时带上调用位置 */
+    public String getText() {
+        if (message != null)
+            return LogFormatter.format(method, line, message, null);
+
+        return LogFormatter.format(method, line, format, args);
+    }
+
+    /**
+     * 把完整的日志内容直接写入out，不生成中间字符串
+     *
+     * @param out 输出
+     */
+    public void appendText(StringBuilder out) {
+        if (message != null)
+            LogFormatter.appendText(out, method, line, message, null);
+        else
+            LogFormatter.appendText(out, method, line, format, args);
+    }
+}
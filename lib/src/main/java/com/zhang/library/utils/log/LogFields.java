@@ -0,0 +1,38 @@
+package com.zhang.library.utils.log;
+
+/**
+ * 结构化日志的字段，供{@link StructuredFormatter}读取
+ * <p>
+ * 基本类型的值不装箱，按{@link #getType(int)}读取对应的方法
+ *
+ * @author ZhangXiaoMing 2026-10-18 18:10 周日
+ */
+public interface LogFields {
+
+    int TYPE_LONG = 1;
+    int TYPE_DOUBLE = 2;
+    int TYPE_BOOLEAN = 3;
+    int TYPE_STRING = 4;
+    int TYPE_OBJECT = 5;
+
+    /** 字段数量 */
+    int size();
+
+    /** 字段名 */
+    String getKey(int index);
+
+    /** 字段类型 */
+    int getType(int index);
+
+    /** {@link #TYPE_LONG}的值 */
+    long getLong(int index);
+
+    /** {@link #TYPE_DOUBLE}的值 */
+    double getDouble(int index);
+
+    /** {@link #TYPE_BOOLEAN}的值 */
+    boolean getBoolean(int index);
+
+    /** {@link #TYPE_STRING}和{@link #TYPE_OBJECT}的值 */
+    Object getObject(int index);
+}
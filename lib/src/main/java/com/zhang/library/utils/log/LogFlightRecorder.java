@@ -0,0 +1,219 @@
+package com.zhang.library.utils.log;
+
+import com.zhang.library.utils.LogUtils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 日志飞行记录器
+ * <p>
+ * 在内存中循环保存最近的若干条日志，不受日志开关和等级的影响，也不做格式化，记录的开销只是填充一个预先分配的对象。
+ * 应用崩溃时把记录的日志和异常堆栈一起写入文件，用于分析线上问题
+ *
+ * @author ZhangXiaoMing 2026-10-18 19:05 周日
+ */
+public class LogFlightRecorder {
+
+    /** 默认记录数量 */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int mMask;
+    private final Slot[] mSlots;
+    private final AtomicLong mCursor = new AtomicLong();
+    /** 上次清空时的序号，之前的记录不再导出 */
+    private volatile long mClearedCursor;
+
+    private File mCrashDir;
+    private Thread.UncaughtExceptionHandler mPreviousHandler;
+
+    public LogFlightRecorder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity 记录数量，会向上取整为2的幂
+     */
+    public LogFlightRecorder(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive!");
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+
+        mMask = size - 1;
+        mSlots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            mSlots[i] = new Slot();
+        }
+    }
+
+    /**
+     * 记录日志
+     *
+     * @param priority 日志等级
+     * @param tag      日志标签
+     * @param method   调用方法名，没有时传null
+     * @param line     调用行号
+     * @param format   日志内容或格式
+     * @param args     格式参数，导出时才格式化
+     */
+    public void record(int priority, String tag, String method, int line, String format, Object[] args) {
+        long sequence = mCursor.getAndIncrement();
+        Slot slot = mSlots[(int) (sequence & mMask)];
+        synchronized (slot) {
+            slot.event.set(priority, tag, method, line, format, args);
+            slot.sequence = sequence;
+        }
+    }
+
+    /** 获取记录的数量 */
+    public int size() {
+        long end = mCursor.get();
+        return (int) (end - getStart(end));
+    }
+
+    /** 清空记录 */
+    public void clear() {
+        long cleared = mCursor.get();
+        mClearedCursor = cleared;
+        for (Slot slot : mSlots) {
+            synchronized (slot) {
+                //不清除清空期间新记录的日志
+                if (slot.sequence < cleared) {
+                    slot.event.clear();
+                    slot.sequence = -1;
+                }
+            }
+        }
+    }
+
+    /** 获取第一条可导出记录的序号 */
+    private long getStart(long end) {
+        return Math.max(mClearedCursor, end - mSlots.length);
+    }
+
+    /**
+     * 按时间顺序导出记录的日志
+     *
+     * @param writer 输出
+     */
+    public void dump(Writer writer) throws IOException {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.US);
+        Date date = new Date();
+        LogEvent event = new LogEvent();
+
+        long end = mCursor.get();
+        long start = getStart(end);
+        for (long sequence = start; sequence < end; sequence++) {
+            Slot slot = mSlots[(int) (sequence & mMask)];
+            synchronized (slot) {
+                //导出期间被新日志覆盖的记录跳过
+                if (slot.sequence != sequence)
+                    continue;
+                event.copyFrom(slot.event);
+            }
+
+            date.setTime(event.getTimeMillis());
+            writer.append(format.format(date))
+                    .append(' ')
+                    .append(String.valueOf(event.getThreadId()))
+                    .append(' ')
+                    .append(TextLogEncoder.getPriorityChar(event.getPriority()))
+                    .append('/')
+                    .append(event.getTag())
+                    .append(": ");
+            try {
+                writer.append(event.getText());
+            } catch (RuntimeException e) {
+                writer.append(event.getFormat());
+            }
+            writer.append('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * 安装崩溃处理，未捕获的异常发生时把异常堆栈和记录的日志写入文件，之后交给原来的处理器
+     *
+     * @param crashDir 崩溃日志文件夹
+     */
+    public synchronized void installCrashHandler(File crashDir) {
+        mCrashDir = crashDir;
+        if (mPreviousHandler != null || Thread.getDefaultUncaughtExceptionHandler() == mCrashHandler)
+            return;
+
+        mPreviousHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler(mCrashHandler);
+    }
+
+    private final Thread.UncaughtExceptionHandler mCrashHandler = new Thread.UncaughtExceptionHandler() {
+        @Override
+        public void uncaughtException(Thread thread, Throwable ex) {
+            try {
+                dumpCrash(thread, ex);
+            } catch (Throwable e) {
+                e.printStackTrace();
+            }
+
+            Thread.UncaughtExceptionHandler previous = mPreviousHandler;
+            if (previous != null) {
+                previous.uncaughtException(thread, ex);
+            } else if (!(ex instanceof ThreadDeath)) {
+                //和ThreadGroup没有默认处理时的行为一致；不能交给ThreadGroup，它会再调用默认处理，也就是这里
+                System.err.print("Exception in thread \"" + thread.getName() + "\" ");
+                ex.printStackTrace(System.err);
+            }
+        }
+    };
+
+    /**
+     * 把异常堆栈和记录的日志写入文件
+     *
+     * @param thread 发生异常的线程
+     * @param ex     异常
+     *
+     * @return 写入的文件，失败时返回null
+     */
+    public File dumpCrash(Thread thread, Throwable ex) throws IOException {
+        File dir = mCrashDir;
+        if (dir == null || (!dir.exists() && !dir.mkdirs()))
+            return null;
+
+        long time = System.currentTimeMillis();
+        File file = new File(dir, "crash-" + time + ".log");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), Charset.forName("UTF-8"));
+        try {
+            writer.append("time: ")
+                    .append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.US).format(new Date(time)))
+                    .append('\n')
+                    .append("thread: ")
+                    .append(thread == null ? "unknown" : thread.getName())
+                    .append('\n')
+                    .append(LogUtils.getStackTraceAsString(ex))
+                    .append('\n')
+                    .append("----- last ")
+                    .append(String.valueOf(size()))
+                    .append(" logs -----")
+                    .append('\n');
+            dump(writer);
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+
+    private static final class Slot {
+        final LogEvent event = new LogEvent();
+        long sequence = -1;
+    }
+}
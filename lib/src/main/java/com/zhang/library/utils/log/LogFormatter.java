@@ -0,0 +1,225 @@
+package com.zhang.library.utils.log;
+
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.Locale;
+
+/**
+ * 日志内容格式化
+ * <p>
+ * 调用位置、日志内容和参数直接写入线程复用的缓冲区，只在最后生成一次字符串。
+ * 常用的%d、%s、%b、%n、%%直接处理，不创建{@link Formatter}；其他格式交给线程复用的{@link Formatter}，
+ * 结果和{@code String.format(Locale.US, format, args)}一致
+ *
+ * @author ZhangXiaoMing 2026-10-18 20:10 周日
+ */
+public final class LogFormatter {
+
+    /** 缓冲区保留的最大长度，超过后丢弃，避免长日志一直占用内存 */
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
+    private static final ThreadLocal<Buffer> BUFFER = new ThreadLocal<Buffer>() {
+        @Override
+        protected Buffer initialValue() {
+            return new Buffer();
+        }
+    };
+
+    private LogFormatter() {
+    }
+
+    /**
+     * 格式化日志内容
+     *
+     * @param label  日志内容前的调用位置，例如"[method:line] "，没有时传null
+     * @param format 日志内容或格式
+     * @param args   格式参数
+     */
+    public static String format(String label, String format, Object[] args) {
+        if (label == null && (args == null || args.length == 0))
+            return isEmpty(format) ? " " : format;
+
+        Buffer buffer = obtain();
+        try {
+            StringBuilder builder = buffer.builder;
+            if (label != null)
+                builder.append(label);
+            appendMessage(buffer, builder, format, args);
+            return builder.toString();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * 格式化带调用位置的日志内容
+     *
+     * @param method 调用方法名，为null时不带调用位置
+     * @param line   调用行号
+     * @param format 日志内容或格式
+     * @param args   格式参数
+     */
+    public static String format(String method, int line, String format, Object[] args) {
+        if (method == null)
+            return format(null, format, args);
+
+        Buffer buffer = obtain();
+        try {
+            StringBuilder builder = buffer.builder;
+            appendLabel(builder, method, line);
+            appendMessage(buffer, builder, format, args);
+            return builder.toString();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * 把带调用位置的日志内容写入out
+     *
+     * @param out    输出
+     * @param method 调用方法名，为null时不带调用位置
+     * @param line   调用行号
+     * @param format 日志内容或格式
+     * @param args   格式参数
+     */
+    public static void appendText(StringBuilder out, String method, int line, String format, Object[] args) {
+        if (method != null)
+            appendLabel(out, method, line);
+        appendMessage(null, out, format, args);
+    }
+
+    /**
+     * 写入调用位置，格式为"[method:line] "
+     *
+     * @param out    输出
+     * @param method 调用方法名
+     * @param line   调用行号
+     */
+    public static void appendLabel(StringBuilder out, String method, int line) {
+        out.append('[').append(method).append(':').append(line).append("] ");
+    }
+
+    /**
+     * 把日志内容写入out
+     *
+     * @param buffer 当前线程的缓冲区，out不是缓冲区时传null
+     */
+    private static void appendMessage(Buffer buffer, StringBuilder out, String format, Object[] args) {
+        if (isEmpty(format)) {
+            out.append(' ');
+            return;
+        }
+        if (args == null || args.length == 0) {
+            out.append(format);
+            return;
+        }
+
+        int start = out.length();
+        if (appendFast(out, format, args))
+            return;
+
+        //有不支持的格式时从头交给Formatter，异常也和String.format一致
+        out.setLength(start);
+        Formatter formatter;
+        if (buffer != null && buffer.builder == out) {
+            if (buffer.formatter == null)
+                buffer.formatter = new Formatter(out, Locale.US);
+            formatter = buffer.formatter;
+        } else {
+            formatter = new Formatter(out, Locale.US);
+        }
+        formatter.format(Locale.US, format, args);
+    }
+
+    /**
+     * 直接处理常用的格式
+     *
+     * @return 是否处理完成，返回false时out中写入了部分内容
+     */
+    private static boolean appendFast(StringBuilder out, String format, Object[] args) {
+        int length = format.length();
+        int argIndex = 0;
+        int segmentStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (format.charAt(i) != '%')
+                continue;
+            if (i + 1 >= length)
+                return false;
+
+            out.append(format, segmentStart, i);
+            char conversion = format.charAt(++i);
+            segmentStart = i + 1;
+            switch (conversion) {
+                case '%':
+                    out.append('%');
+                    break;
+                case 'n':
+                    out.append(System.lineSeparator());
+                    break;
+                case 'd': {
+                    if (argIndex >= args.length)
+                        return false;
+                    Object arg = args[argIndex++];
+                    if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte)
+                        out.append(((Number) arg).longValue());
+                    else
+                        return false;
+                    break;
+                }
+                case 's': {
+                    if (argIndex >= args.length)
+                        return false;
+                    Object arg = args[argIndex++];
+                    if (arg instanceof Formattable)
+                        return false;
+                    out.append(arg);
+                    break;
+                }
+                case 'b': {
+                    if (argIndex >= args.length)
+                        return false;
+                    Object arg = args[argIndex++];
+                    out.append(arg == null ? "false" : arg instanceof Boolean ? arg.toString() : "true");
+                    break;
+                }
+                default:
+                    //宽度、精度、参数索引等其他格式
+                    return false;
+            }
+        }
+        out.append(format, segmentStart, length);
+        return true;
+    }
+
+    private static Buffer obtain() {
+        Buffer buffer = BUFFER.get();
+        //参数的toString中再次输出日志时使用新的缓冲区
+        if (buffer.isInUse)
+            buffer = new Buffer();
+        buffer.isInUse = true;
+        return buffer;
+    }
+
+    private static void release(Buffer buffer) {
+        StringBuilder builder = buffer.builder;
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer.builder = new StringBuilder(256);
+            buffer.formatter = null;
+        } else {
+            builder.setLength(0);
+        }
+        buffer.isInUse = false;
+    }
+
+    private static boolean isEmpty(String text) {
+        return text == null || text.length() == 0;
+    }
+
+    private static final class Buffer {
+        StringBuilder builder = new StringBuilder(256);
+        /** 绑定到builder的Formatter，只在遇到不常用的格式时创建 */
+        Formatter formatter;
+        boolean isInUse;
+    }
+}
@@ -0,0 +1,243 @@
+package com.zhang.library.utils.log;
+
+import android.util.Log;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 日志标签与等级的对应表
+ * <p>
+ * 对象不可变，修改时生成新的对象，读取时不需要加锁。内部使用开放寻址的数组存储，查询只需要计算一次标签的hashCode
+ * <p>
+ * 配置文件每行一条，格式为<b>标签=等级</b>，<b>*</b>表示默认等级，<b>#</b>开头的行为注释，例如：
+ * <pre>
+ * *=INFO
+ * ActivityStack=VERBOSE
+ * HttpClient=OFF
+ * </pre>
+ * 等级可以是VERBOSE、DEBUG、INFO、WARN、ERROR、ASSERT、OFF或者它们的首字母，也可以是数字
+ *
+ * @author ZhangXiaoMing 2026-10-18 14:30 周日
+ */
+public final class LogLevelTable {
+
+    /** 未配置 */
+    public static final int NOT_SET = 0;
+    /** 关闭输出 */
+    public static final int OFF = Log.ASSERT + 1;
+
+    /** 配置文件中表示默认等级的标签 */
+    public static final String DEFAULT_TAG = "*";
+
+    public static final LogLevelTable EMPTY = new LogLevelTable(Log.VERBOSE, new LinkedHashMap<String, Integer>());
+
+    private final int mDefaultLevel;
+    private final String[] mTags;
+    private final int[] mLevels;
+    private final int mMask;
+    private final int mSize;
+    /** 所有标签中最低的等级，用于标签未确定时的快速判断 */
+    private final int mMinLevel;
+
+    private LogLevelTable(int defaultLevel, Map<String, Integer> levels) {
+        mDefaultLevel = defaultLevel;
+        mSize = levels.size();
+
+        //装载因子不超过0.5
+        int capacity = 2;
+        while (capacity < mSize * 2)
+            capacity <<= 1;
+        mTags = new String[capacity];
+        mLevels = new int[capacity];
+        mMask = capacity - 1;
+
+        int minLevel = OFF;
+        for (Map.Entry<String, Integer> entry : levels.entrySet()) {
+            String tag = entry.getKey();
+            int level = entry.getValue();
+            int index = indexOf(tag);
+            mTags[index] = tag;
+            mLevels[index] = level;
+            minLevel = Math.min(minLevel, level);
+        }
+        mMinLevel = minLevel;
+    }
+
+    private int indexOf(String tag) {
+        int h = tag.hashCode();
+        int index = (h ^ (h >>> 16)) & mMask;
+        while (true) {
+            String key = mTags[index];
+            if (key == null || key.equals(tag))
+                return index;
+            index = (index + 1) & mMask;
+        }
+    }
+
+    /**
+     * 获取标签配置的等级
+     *
+     * @param tag 日志标签
+     *
+     * @return 未配置时返回{@link #NOT_SET}
+     */
+    public int getLevel(String tag) {
+        if (tag == null || mSize == 0)
+            return NOT_SET;
+
+        int index = indexOf(tag);
+        return mTags[index] == null ? NOT_SET : mLevels[index];
+    }
+
+    /** 获取默认等级，标签未配置时使用 */
+    public int getDefaultLevel() {
+        return mDefaultLevel;
+    }
+
+    /** 获取所有标签中最低的等级，没有配置标签时返回{@link #OFF} */
+    public int getMinLevel() {
+        return mMinLevel;
+    }
+
+    /** 配置的标签数量 */
+    public int size() {
+        return mSize;
+    }
+
+    /** 转换为Map */
+    public Map<String, Integer> toMap() {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < mTags.length; i++) {
+            if (mTags[i] != null)
+                map.put(mTags[i], mLevels[i]);
+        }
+        return map;
+    }
+
+    /**
+     * 生成修改了指定标签等级的新对象
+     *
+     * @param tag   日志标签
+     * @param level 等级，{@link #NOT_SET}表示移除配置
+     */
+    public LogLevelTable with(String tag, int level) {
+        if (tag == null)
+            return this;
+
+        Map<String, Integer> map = toMap();
+        if (level == NOT_SET)
+            map.remove(tag);
+        else
+            map.put(tag, level);
+        return new LogLevelTable(mDefaultLevel, map);
+    }
+
+    /**
+     * 生成修改了默认等级的新对象
+     *
+     * @param defaultLevel 默认等级
+     */
+    public LogLevelTable withDefaultLevel(int defaultLevel) {
+        return new LogLevelTable(defaultLevel, toMap());
+    }
+
+    /**
+     * 读取配置文件
+     *
+     * @param file 配置文件
+     */
+    public static LogLevelTable load(File file) throws IOException {
+        Reader reader = new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8"));
+        try {
+            return parse(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * 解析配置
+     *
+     * @param reader 配置内容
+     */
+    public static LogLevelTable parse(Reader reader) throws IOException {
+        BufferedReader br = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+
+        int defaultLevel = Log.VERBOSE;
+        Map<String, Integer> map = new LinkedHashMap<>();
+        String line;
+        while ((line = br.readLine()) != null) {
+            line = line.trim();
+            if (line.length() == 0 || line.startsWith("#"))
+                continue;
+
+            int index = line.indexOf('=');
+            if (index <= 0)
+                continue;
+
+            String tag = line.substring(0, index).trim();
+            int level = parseLevel(line.substring(index + 1).trim());
+            if (level == NOT_SET)
+                continue;
+
+            if (DEFAULT_TAG.equals(tag))
+                defaultLevel = level;
+            else
+                map.put(tag, level);
+        }
+        return new LogLevelTable(defaultLevel, map);
+    }
+
+    /**
+     * 解析等级
+     *
+     * @param value 等级名称、首字母或者数字
+     *
+     * @return 无法解析或者数字不在{@link Log#VERBOSE}到{@link #OFF}之间时返回{@link #NOT_SET}
+     */
+    public static int parseLevel(String value) {
+        if (value == null || value.length() == 0)
+            return NOT_SET;
+
+        switch (value.toUpperCase(Locale.US)) {
+            case "V":
+            case "VERBOSE":
+                return Log.VERBOSE;
+            case "D":
+            case "DEBUG":
+                return Log.DEBUG;
+            case "I":
+            case "INFO":
+                return Log.INFO;
+            case "W":
+            case "WARN":
+                return Log.WARN;
+            case "E":
+            case "ERROR":
+                return Log.ERROR;
+            case "A":
+            case "ASSERT":
+                return Log.ASSERT;
+            case "S":
+            case "OFF":
+            case "NONE":
+                return OFF;
+            default:
+                try {
+                    int level = Integer.parseInt(value);
+                    return level >= Log.VERBOSE && level <= OFF ? level : NOT_SET;
+                } catch (NumberFormatException e) {
+                    return NOT_SET;
+                }
+        }
+    }
+}
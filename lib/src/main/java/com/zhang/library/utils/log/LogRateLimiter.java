@@ -0,0 +1,230 @@
+package com.zhang.library.utils.log;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 日志限流和采样
+ * <p>
+ * 每个调用位置、每个日志等级单独使用一个令牌桶，桶内令牌耗尽时丢弃日志；通过限流的日志再按概率采样。
+ * 被丢弃的日志会计数，每隔{@code summaryIntervalMillis}通过{@link SuppressedCallback}输出一条"N条日志被忽略"的汇总：
+ * 该位置的下一条日志输出前会检查，任意位置申请时也会检查所有位置，调用位置不再打印日志时汇总也不会丢失
+ * <p>
+ * 调用位置的判断：开启追踪时为{@link CallSite}；否则带格式参数的日志以格式字符串区分，不带参数的日志以标签区分
+ *
+ * @author ZhangXiaoMing 2026-10-18 17:40 周日
+ */
+public class LogRateLimiter {
+
+    /** 每个等级的调用位置数量上限，超过后输出汇总并清空重新统计 */
+    private static final int MAX_SITE_COUNT = 4096;
+    /** 日志等级的个数，和{@link android.util.Log}的等级对应 */
+    private static final int PRIORITY_COUNT = 8;
+
+    private final double mPermitsPerNano;
+    private final double mBurst;
+    private final double mSampleRate;
+    private final long mSummaryIntervalNanos;
+
+    /** 按日志等级区分，拼接的debug日志不会占用同一标签的error日志的令牌 */
+    private final ConcurrentHashMap<Object, Bucket>[] mBucketMaps;
+    /** 下次检查所有位置的时间 */
+    private final AtomicLong mNextSweepNanos;
+
+    /**
+     * @param permitsPerSecond 每个调用位置每秒允许的日志数量
+     * @param burst            每个调用位置允许的突发数量
+     */
+    public LogRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, 1, 10 * 1000);
+    }
+
+    /**
+     * @param permitsPerSecond      每个调用位置每秒允许的日志数量
+     * @param burst                 每个调用位置允许的突发数量
+     * @param sampleRate            采样率，0~1，1表示不采样
+     * @param summaryIntervalMillis 两次汇总的最小间隔
+     */
+    @SuppressWarnings("unchecked")
+    public LogRateLimiter(double permitsPerSecond, int burst, double sampleRate, long summaryIntervalMillis) {
+        if (permitsPerSecond <= 0 || burst <= 0)
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive!");
+        if (sampleRate < 0 || sampleRate > 1)
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1!");
+
+        mPermitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        mBurst = burst;
+        mSampleRate = sampleRate;
+        mSummaryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(summaryIntervalMillis);
+
+        mBucketMaps = new ConcurrentHashMap[PRIORITY_COUNT];
+        for (int i = 0; i < PRIORITY_COUNT; i++) {
+            mBucketMaps[i] = new ConcurrentHashMap<>();
+        }
+        mNextSweepNanos = new AtomicLong(System.nanoTime() + mSummaryIntervalNanos);
+    }
+
+    /**
+     * 申请输出日志
+     *
+     * @param priority 日志等级
+     * @param tag      日志标签，汇总时使用
+     * @param site     调用位置
+     * @param callback 需要输出汇总时回调，在当前线程中调用
+     *
+     * @return <b>true:</b>输出日志；<b>false:</b>丢弃
+     */
+    public boolean acquire(int priority, String tag, Object site, SuppressedCallback callback) {
+        if (site == null)
+            return true;
+
+        long nowNanos = System.nanoTime();
+        long nextSweepNanos = mNextSweepNanos.get();
+        if (nowNanos - nextSweepNanos >= 0 && mNextSweepNanos.compareAndSet(nextSweepNanos, nowNanos + mSummaryIntervalNanos))
+            sweep(nowNanos, false, callback);
+
+        ConcurrentHashMap<Object, Bucket> bucketMap = mBucketMaps[getIndex(priority)];
+        Bucket bucket = bucketMap.get(site);
+        if (bucket == null) {
+            if (bucketMap.size() >= MAX_SITE_COUNT) {
+                report(bucketMap, nowNanos, true, callback);
+                bucketMap.clear();
+            }
+
+            Bucket newBucket = new Bucket(priority, tag, site, nowNanos);
+            bucket = bucketMap.putIfAbsent(site, newBucket);
+            if (bucket == null)
+                bucket = newBucket;
+        }
+
+        if (!bucket.acquire(nowNanos))
+            return false;
+
+        int count = bucket.takeSuppressedCount(nowNanos, false);
+        if (count > 0 && callback != null)
+            callback.onSuppressed(bucket.mPriority, bucket.mTag, bucket.mSite, count);
+        return true;
+    }
+
+    /**
+     * 立即输出所有位置的汇总，不等待汇总间隔
+     *
+     * @param callback 汇总回调
+     */
+    public void flush(SuppressedCallback callback) {
+        sweep(System.nanoTime(), true, callback);
+    }
+
+    /**
+     * 清空统计，清空前输出所有位置的汇总
+     *
+     * @param callback 汇总回调，为null时直接丢弃
+     */
+    public void reset(SuppressedCallback callback) {
+        long nowNanos = System.nanoTime();
+        for (ConcurrentHashMap<Object, Bucket> bucketMap : mBucketMaps) {
+            report(bucketMap, nowNanos, true, callback);
+            bucketMap.clear();
+        }
+    }
+
+    private void sweep(long nowNanos, boolean force, SuppressedCallback callback) {
+        for (ConcurrentHashMap<Object, Bucket> bucketMap : mBucketMaps) {
+            report(bucketMap, nowNanos, force, callback);
+        }
+    }
+
+    private static void report(ConcurrentHashMap<Object, Bucket> bucketMap, long nowNanos, boolean force, SuppressedCallback callback) {
+        if (callback == null || bucketMap.isEmpty())
+            return;
+
+        for (Bucket bucket : bucketMap.values()) {
+            int count = bucket.takeSuppressedCount(nowNanos, force);
+            if (count > 0)
+                callback.onSuppressed(bucket.mPriority, bucket.mTag, bucket.mSite, count);
+        }
+    }
+
+    private static int getIndex(int priority) {
+        return priority < 0 || priority >= PRIORITY_COUNT ? 0 : priority;
+    }
+
+    /** 被丢弃的日志的汇总 */
+    public interface SuppressedCallback {
+
+        /**
+         * 输出汇总
+         *
+         * @param priority 日志等级
+         * @param tag      日志标签
+         * @param site     调用位置
+         * @param count    被丢弃的日志数量
+         */
+        void onSuppressed(int priority, String tag, Object site, int count);
+    }
+
+    private final class Bucket {
+        final int mPriority;
+        final String mTag;
+        final Object mSite;
+
+        private double mTokens;
+        private long mLastRefillNanos;
+        private long mLastSummaryNanos;
+        private int mSuppressedCount;
+        /** 采样用的随机数状态 */
+        private int mSeed;
+
+        Bucket(int priority, String tag, Object site, long nowNanos) {
+            mPriority = priority;
+            mTag = tag;
+            mSite = site;
+            mTokens = mBurst;
+            mLastRefillNanos = nowNanos;
+            mLastSummaryNanos = nowNanos;
+            int seed = site.hashCode() * 31 + priority;
+            mSeed = seed == 0 ? 0x9E3779B9 : seed;
+        }
+
+        synchronized boolean acquire(long nowNanos) {
+            mTokens = Math.min(mBurst, mTokens + (nowNanos - mLastRefillNanos) * mPermitsPerNano);
+            mLastRefillNanos = nowNanos;
+
+            if (mTokens < 1 || !sample()) {
+                mSuppressedCount++;
+                return false;
+            }
+            mTokens -= 1;
+            return true;
+        }
+
+        /**
+         * 取出被丢弃的数量
+         *
+         * @param force 是否忽略汇总间隔
+         */
+        synchronized int takeSuppressedCount(long nowNanos, boolean force) {
+            if (mSuppressedCount <= 0 || (!force && nowNanos - mLastSummaryNanos < mSummaryIntervalNanos))
+                return 0;
+
+            int count = mSuppressedCount;
+            mSuppressedCount = 0;
+            mLastSummaryNanos = nowNanos;
+            return count;
+        }
+
+        private boolean sample() {
+            if (mSampleRate >= 1)
+                return true;
+
+            //xorshift，避免共享随机数对象的竞争
+            int x = mSeed;
+            x ^= x << 13;
+            x ^= x >>> 17;
+            x ^= x << 5;
+            mSeed = x;
+            return (x >>> 8) * 0x1.0p-24 < mSampleRate;
+        }
+    }
+}
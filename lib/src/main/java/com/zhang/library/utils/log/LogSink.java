@@ -0,0 +1,24 @@
+package com.zhang.library.utils.log;
+
+/**
+ * 日志输出端
+ *
+ * @author ZhangXiaoMing 2026-10-18 13:08 周日
+ */
+public interface LogSink {
+
+    /**
+     * 输出日志，在{@link AsyncLogger}的消费线程中调用
+     *
+     * @param event 日志事件，方法返回后会被复用，不能持有
+     */
+    void write(LogEvent event);
+
+    /** 刷新缓冲内容 */
+    default void flush() {
+    }
+
+    /** 关闭输出端 */
+    default void close() {
+    }
+}
@@ -0,0 +1,12 @@
+package com.zhang.library.utils.log;
+
+/**
+ * 延迟生成日志内容，只有日志需要输出时才会调用
+ *
+ * @author ZhangXiaoMing 2026-10-18 14:02 周日
+ */
+public interface LogSupplier {
+
+    /** 生成日志内容 */
+    String get();
+}
@@ -0,0 +1,16 @@
+package com.zhang.library.utils.log;
+
+import android.util.Log;
+
+/**
+ * 输出到Logcat
+ *
+ * @author ZhangXiaoMing 2026-10-18 13:10 周日
+ */
+public class LogcatSink implements LogSink {
+
+    @Override
+    public void write(LogEvent event) {
+        Log.println(event.getPriority(), event.getTag(), event.getText());
+    }
+}
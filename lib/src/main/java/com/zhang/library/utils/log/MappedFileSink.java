@@ -0,0 +1,308 @@
+package com.zhang.library.utils.log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 基于内存映射的滚动日志文件
+ * <p>
+ * 每个日志文件预先分配好大小并映射到内存，写日志只是内存拷贝，不产生系统调用；
+ * 映射的内容由系统负责写回文件，进程被杀死也不会丢失已写入的日志。
+ * 文件写满或者超过保存时长后切换到新文件，只保留最近的若干个文件
+ * <p>
+ * 日志的编码方式由{@link LogEncoder}决定，默认为{@link TextLogEncoder}。
+ * 文件未写满的部分为0，可续写的编码重新打开时据此找到写入位置，切换文件时会截掉未使用的部分
+ *
+ * @author ZhangXiaoMing 2026-10-18 15:45 周日
+ */
+public class MappedFileSink implements LogSink {
+
+    /** 默认单个文件大小 */
+    public static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+    /** 默认保留的文件数量 */
+    public static final int DEFAULT_MAX_SEGMENTS = 8;
+    /** 默认单个文件的最长使用时间 */
+    public static final long DEFAULT_MAX_AGE_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private final File mDir;
+    private final String mPrefix;
+    private final int mSegmentSize;
+    private final int mMaxSegments;
+    private final long mMaxAgeMillis;
+    private final LogEncoder mEncoder;
+    private final String mSuffix;
+
+    private File mSegmentFile;
+    private MappedByteBuffer mBuffer;
+    private long mSegmentCreatedTime;
+    /** 新文件写完文件头后的位置，续写的文件为-1 */
+    private int mBeginPosition;
+    /** 是否在flush时把内容同步到磁盘，会产生系统调用 */
+    private boolean isForceOnFlush;
+
+    /**
+     * @param dir    日志文件夹
+     * @param prefix 日志文件名前缀
+     */
+    public MappedFileSink(File dir, String prefix) {
+        this(dir, prefix, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS, DEFAULT_MAX_AGE_MILLIS);
+    }
+
+    /**
+     * @param dir          日志文件夹
+     * @param prefix       日志文件名前缀
+     * @param segmentSize  单个文件大小
+     * @param maxSegments  保留的文件数量
+     * @param maxAgeMillis 单个文件的最长使用时间，超过后切换到新文件
+     */
+    public MappedFileSink(File dir, String prefix, int segmentSize, int maxSegments, long maxAgeMillis) {
+        this(dir, prefix, segmentSize, maxSegments, maxAgeMillis, new TextLogEncoder());
+    }
+
+    /**
+     * @param dir          日志文件夹
+     * @param prefix       日志文件名前缀
+     * @param segmentSize  单个文件大小
+     * @param maxSegments  保留的文件数量
+     * @param maxAgeMillis 单个文件的最长使用时间，超过后切换到新文件
+     * @param encoder      日志编码
+     */
+    public MappedFileSink(File dir, String prefix, int segmentSize, int maxSegments, long maxAgeMillis, LogEncoder encoder) {
+        if (dir == null || prefix == null || encoder == null)
+            throw new NullPointerException("dir, prefix or encoder is null!");
+        if (segmentSize <= 0 || maxSegments <= 0 || maxAgeMillis <= 0)
+            throw new IllegalArgumentException("segmentSize, maxSegments and maxAgeMillis must be positive!");
+
+        mDir = dir;
+        mPrefix = prefix;
+        mSegmentSize = segmentSize;
+        mMaxSegments = maxSegments;
+        mMaxAgeMillis = maxAgeMillis;
+        mEncoder = encoder;
+        mSuffix = encoder.getFileSuffix();
+    }
+
+    /**
+     * 设置是否在flush时把内容同步到磁盘
+     * <p>
+     * 默认不同步，进程被杀死时内容由系统写回，只有系统崩溃或断电才可能丢失
+     *
+     * @param force 是否同步
+     */
+    public MappedFileSink setForceOnFlush(boolean force) {
+        isForceOnFlush = force;
+        return this;
+    }
+
+    /** 获取当前写入的日志文件 */
+    public synchronized File getCurrentFile() {
+        return mSegmentFile;
+    }
+
+    @Override
+    public synchronized void write(LogEvent event) {
+        long time = event.getTimeMillis();
+        if (mBuffer == null || time - mSegmentCreatedTime >= mMaxAgeMillis) {
+            if (!rotate(time))
+                return;
+        }
+
+        if (encode(event))
+            return;
+
+        //单条日志超过文件大小时丢弃，不切换到新文件
+        if (mBuffer.position() == mBeginPosition)
+            return;
+
+        //当前文件剩余空间不足，切换文件后再写
+        if (rotate(time))
+            encode(event);
+    }
+
+    /**
+     * 把日志编码写入映射内存
+     *
+     * @return <b>false:</b>剩余空间不足，写了一部分的内容会被清除
+     */
+    private boolean encode(LogEvent event) {
+        MappedByteBuffer out = mBuffer;
+        int start = out.position();
+        if (mEncoder.encode(event, out))
+            return true;
+
+        //保证文件中未写入的部分始终为0
+        int end = out.position();
+        for (int i = start; i < end; i++) {
+            out.put(i, (byte) 0);
+        }
+        out.position(start);
+        return false;
+    }
+
+    /**
+     * 切换日志文件，首次写入时优先恢复最近一个未写满且未过期的文件
+     *
+     * @param time 当前时间
+     */
+    private boolean rotate(long time) {
+        boolean isFirst = mBuffer == null && mSegmentFile == null;
+        closeSegment();
+
+        if (!mDir.exists() && !mDir.mkdirs())
+            return false;
+
+        try {
+            if (isFirst && mEncoder.isResumable() && resumeSegment(time))
+                return true;
+
+            //同一毫秒内切换多次时顺延文件名
+            File file = new File(mDir, mPrefix + "-" + time + mSuffix);
+            while (file.exists()) {
+                file = new File(mDir, mPrefix + "-" + (++time) + mSuffix);
+            }
+            MappedByteBuffer buffer = map(file);
+            mBuffer = buffer;
+            mSegmentFile = file;
+            mSegmentCreatedTime = time;
+            deleteOldSegments();
+            if (mEncoder.begin(buffer, time)) {
+                mBeginPosition = buffer.position();
+                return true;
+            }
+
+            closeSegment();
+            return false;
+        } catch (IOException e) {
+            e.printStackTrace();
+            mBuffer = null;
+            mSegmentFile = null;
+        }
+        return false;
+    }
+
+    /** 恢复最近一个文件 */
+    private boolean resumeSegment(long time) throws IOException {
+        List<File> list = listSegments();
+        if (list.isEmpty())
+            return false;
+
+        File file = list.get(list.size() - 1);
+        long createdTime = getCreatedTime(file);
+        if (createdTime <= 0 || time - createdTime >= mMaxAgeMillis)
+            return false;
+
+        MappedByteBuffer buffer = map(file);
+        //从后往前找到最后一个非0字节
+        int position = buffer.limit();
+        while (position > 0 && buffer.get(position - 1) == 0) {
+            position--;
+        }
+        if (position >= buffer.limit())
+            return false;
+
+        buffer.position(position);
+        mBuffer = buffer;
+        mSegmentFile = file;
+        mSegmentCreatedTime = createdTime;
+        mBeginPosition = -1;
+        return true;
+    }
+
+    private MappedByteBuffer map(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            if (raf.length() < mSegmentSize)
+                raf.setLength(mSegmentSize);
+            FileChannel channel = raf.getChannel();
+            //映射建立后关闭文件不影响映射
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, mSegmentSize);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /** 关闭当前文件，截掉未使用的部分 */
+    private void closeSegment() {
+        MappedByteBuffer buffer = mBuffer;
+        File file = mSegmentFile;
+        mBuffer = null;
+        mSegmentFile = null;
+        if (buffer == null || file == null)
+            return;
+
+        int position = buffer.position();
+        buffer.force();
+        try {
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                raf.setLength(position);
+            } finally {
+                raf.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /** 删除超出数量的旧文件 */
+    private void deleteOldSegments() {
+        List<File> list = listSegments();
+        for (int i = 0; i < list.size() - mMaxSegments; i++) {
+            File file = list.get(i);
+            if (!file.equals(mSegmentFile))
+                file.delete();
+        }
+    }
+
+    /** 获取所有日志文件，按创建时间排序 */
+    public synchronized List<File> listSegments() {
+        File[] files = mDir.listFiles();
+        if (files == null)
+            return new ArrayList<>();
+
+        List<File> list = new ArrayList<>();
+        for (File file : files) {
+            if (file.isFile() && getCreatedTime(file) > 0)
+                list.add(file);
+        }
+        Collections.sort(list, new Comparator<File>() {
+            @Override
+            public int compare(File o1, File o2) {
+                return Long.compare(getCreatedTime(o1), getCreatedTime(o2));
+            }
+        });
+        return list;
+    }
+
+    /** 从文件名中获取文件的创建时间，不是日志文件时返回-1 */
+    private long getCreatedTime(File file) {
+        String name = file.getName();
+        String head = mPrefix + "-";
+        if (!name.startsWith(head) || !name.endsWith(mSuffix))
+            return -1;
+
+        try {
+            return Long.parseLong(name.substring(head.length(), name.length() - mSuffix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (isForceOnFlush && mBuffer != null)
+            mBuffer.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        closeSegment();
+    }
+}
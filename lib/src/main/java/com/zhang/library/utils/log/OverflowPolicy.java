@@ -0,0 +1,16 @@
+package com.zhang.library.utils.log;
+
+/**
+ * 异步日志队列写满时的处理策略
+ *
+ * @author ZhangXiaoMing 2026-10-18 13:12 周日
+ */
+public enum OverflowPolicy {
+
+    /** 丢弃队列中最旧的日志 */
+    DROP_OLDEST,
+    /** 丢弃当前写入的日志 */
+    DROP_NEWEST,
+    /** 阻塞写入线程，直到队列有空位 */
+    BLOCK,
+}
@@ -0,0 +1,18 @@
+package com.zhang.library.utils.log;
+
+/**
+ * 结构化日志的输出格式
+ *
+ * @author ZhangXiaoMing 2026-10-18 18:12 周日
+ */
+public interface StructuredFormatter {
+
+    /**
+     * 把日志内容和字段写入out
+     *
+     * @param message 日志内容，可以为null
+     * @param fields  字段
+     * @param out     输出，由调用线程复用
+     */
+    void format(String message, LogFields fields, StringBuilder out);
+}
@@ -0,0 +1,94 @@
+package com.zhang.library.utils.log;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * 文本日志编码，每条日志一行，格式为：
+ * <pre>
+ * 2026-10-18 16:20:00.000 1 D/Tag: [method:line] message
+ * </pre>
+ *
+ * @author ZhangXiaoMing 2026-10-18 16:22 周日
+ */
+public class TextLogEncoder implements LogEncoder {
+
+    private static final String PRIORITY_CHARS = "??VDIWEA";
+
+    private final CharsetEncoder mEncoder;
+    private final SimpleDateFormat mDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.US);
+    private final Date mDate = new Date();
+    private final StringBuilder mLineBuilder = new StringBuilder(256);
+    private char[] mChars = new char[256];
+    private CharBuffer mCharBuffer = CharBuffer.wrap(mChars);
+
+    public TextLogEncoder() {
+        mEncoder = Charset.forName("UTF-8").newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public String getFileSuffix() {
+        return ".log";
+    }
+
+    @Override
+    public boolean isResumable() {
+        return true;
+    }
+
+    @Override
+    public boolean begin(ByteBuffer out, long time) {
+        return true;
+    }
+
+    @Override
+    public boolean encode(LogEvent event, ByteBuffer out) {
+        StringBuilder builder = mLineBuilder;
+        builder.setLength(0);
+        mDate.setTime(event.getTimeMillis());
+        builder.append(mDateFormat.format(mDate))
+                .append(' ')
+                .append(event.getThreadId())
+                .append(' ')
+                .append(getPriorityChar(event.getPriority()))
+                .append('/')
+                .append(event.getTag())
+                .append(": ");
+        event.appendText(builder);
+        builder.append('\n');
+
+        int length = builder.length();
+        if (mChars.length < length) {
+            mChars = new char[Math.max(length, mChars.length * 2)];
+            mCharBuffer = CharBuffer.wrap(mChars);
+        }
+        builder.getChars(0, length, mChars, 0);
+        CharBuffer in = mCharBuffer;
+        in.clear();
+        in.limit(length);
+
+        mEncoder.reset();
+        CoderResult result = mEncoder.encode(in, out, true);
+        if (!result.isOverflow())
+            result = mEncoder.flush(out);
+        return !result.isOverflow();
+    }
+
+    /**
+     * 获取日志等级对应的字母
+     *
+     * @param priority 日志等级
+     */
+    public static char getPriorityChar(int priority) {
+        return priority >= 0 && priority < PRIORITY_CHARS.length() ? PRIORITY_CHARS.charAt(priority) : '?';
+    }
+}
@@ -0,0 +1,148 @@
+package com.zhang.library.utils.time;
+
+import java.text.FieldPosition;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 线程复用的{@link SimpleDateFormat}
+ * <p>
+ * 每个线程按格式、地区和时区缓存最近使用的8个SimpleDateFormat，不加锁也不重复创建；
+ * 格式化时复用Date和StringBuffer，只创建结果字符串。
+ * 时区传null表示当前的默认时区，按{@link DefaultTimeZone}检查，系统时区改变后最晚1秒生效，不需要调用{@link #clear()}
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:50 周日
+ */
+public final class DateFormatCache {
+
+    /** 每个线程缓存的个数 */
+    private static final int SIZE = 8;
+
+    /** 调用clear()后改变，各线程在下次使用时丢弃旧的缓存 */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private static final ThreadLocal<Cache> CACHE = new ThreadLocal<Cache>() {
+        @Override
+        protected Cache initialValue() {
+            return new Cache();
+        }
+    };
+
+    private DateFormatCache() {
+    }
+
+    /**
+     * 格式化时间
+     *
+     * @param pattern   时间格式
+     * @param locale    地区
+     * @param timeZone  时区，为null时使用默认时区
+     * @param timestamp 时间戳，毫秒为单位
+     */
+    public static String format(String pattern, Locale locale, TimeZone timeZone, long timestamp) {
+        Entry entry = obtain(pattern, locale, timeZone);
+        entry.date.setTime(timestamp);
+        StringBuffer buffer = entry.buffer;
+        buffer.setLength(0);
+        entry.format.format(entry.date, buffer, entry.position);
+        return buffer.toString();
+    }
+
+    /**
+     * 解析时间，和{@link SimpleDateFormat#parse(String)}一致
+     *
+     * @param pattern  时间格式
+     * @param locale   地区
+     * @param timeZone 时区，为null时使用默认时区
+     * @param text     时间
+     */
+    public static Date parse(String pattern, Locale locale, TimeZone timeZone, String text) throws ParseException {
+        return obtain(pattern, locale, timeZone).format.parse(text);
+    }
+
+    /**
+     * 获取当前线程缓存的SimpleDateFormat，只能在当前线程使用，不能修改设置
+     *
+     * @param pattern  时间格式
+     * @param locale   地区
+     * @param timeZone 时区，为null时使用默认时区
+     */
+    public static SimpleDateFormat get(String pattern, Locale locale, TimeZone timeZone) {
+        return obtain(pattern, locale, timeZone).format;
+    }
+
+    /** 清空所有线程的缓存，并立即重新读取默认时区 */
+    public static void clear() {
+        GENERATION.incrementAndGet();
+        DefaultTimeZone.reset();
+    }
+
+    private static Entry obtain(String pattern, Locale locale, TimeZone timeZone) {
+        Cache cache = CACHE.get();
+        Entry[] entries = cache.entries;
+        int generation = GENERATION.get();
+        if (cache.generation != generation) {
+            cache.generation = generation;
+            for (int i = 0; i < SIZE; i++) {
+                entries[i] = null;
+            }
+        }
+
+        if (timeZone == null)
+            timeZone = DefaultTimeZone.get();
+        String zoneId = timeZone.getID();
+        for (int i = 0; i < SIZE; i++) {
+            Entry entry = entries[i];
+            if (entry == null)
+                break;
+            if (!entry.matches(pattern, locale, zoneId))
+                continue;
+
+            //最近使用的移到前面
+            if (i > 0) {
+                System.arraycopy(entries, 0, entries, 1, i);
+                entries[0] = entry;
+            }
+            return entry;
+        }
+
+        Entry entry = new Entry(pattern, locale, timeZone);
+        System.arraycopy(entries, 0, entries, 1, SIZE - 1);
+        entries[0] = entry;
+        return entry;
+    }
+
+    private static final class Cache {
+        final Entry[] entries = new Entry[SIZE];
+        int generation = GENERATION.get();
+    }
+
+    private static final class Entry {
+        final String pattern;
+        final Locale locale;
+        final String zoneId;
+
+        final SimpleDateFormat format;
+        final Date date = new Date();
+        final StringBuffer buffer = new StringBuffer(32);
+        final FieldPosition position = new FieldPosition(0);
+
+        Entry(String pattern, Locale locale, TimeZone timeZone) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.zoneId = timeZone.getID();
+            format = new SimpleDateFormat(pattern, locale);
+            format.setTimeZone((TimeZone) timeZone.clone());
+        }
+
+        boolean matches(String pattern, Locale locale, String zoneId) {
+            return (this.pattern == pattern || this.pattern.equals(pattern))
+                    && this.locale.equals(locale)
+                    && this.zoneId.equals(zoneId);
+        }
+    }
+}
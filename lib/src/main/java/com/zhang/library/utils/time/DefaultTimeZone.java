@@ -0,0 +1,45 @@
+package com.zhang.library.utils.time;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 默认时区
+ * <p>
+ * {@link TimeZone#getDefault()}每次都会复制对象，这里保存一份，最多每秒重新读取一次，
+ * 系统时区改变后不需要手动清空缓存，最晚1秒后生效；{@link #reset()}之后立即重新读取
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+final class DefaultTimeZone {
+
+    /** 重新读取默认时区的间隔 */
+    private static final long CHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static volatile TimeZone sTimeZone;
+    /** 上次读取的时间，System.nanoTime() */
+    private static volatile long sCheckTime;
+
+    private DefaultTimeZone() {
+    }
+
+    /** 当前的默认时区，多个线程共用，不能修改 */
+    static TimeZone get() {
+        TimeZone timeZone = sTimeZone;
+        long now = System.nanoTime();
+        if (timeZone == null || now - sCheckTime >= CHECK_INTERVAL_NANOS) {
+            TimeZone current = TimeZone.getDefault();
+            if (timeZone == null || !timeZone.getID().equals(current.getID())) {
+                timeZone = current;
+                sTimeZone = current;
+            }
+            sCheckTime = now;
+        }
+        return timeZone;
+    }
+
+    /** 下次使用时立即重新读取 */
+    static void reset() {
+        sTimeZone = null;
+    }
+}
@@ -0,0 +1,383 @@
+package com.zhang.library.utils.time;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * 固定长度的数字时间格式，例如"yyyy-MM-dd HH:mm:ss"、"yyyy-MM-dd"、"HH:mm:ss"
+ * <p>
+ * 支持yyyy、MM、dd、HH、mm、ss、SSS，其他字符（不能是英文字母和单引号）原样输出。
+ * 直接计算日期写入调用方提供的char[]或者StringBuilder，解析时不创建Date和Calendar，对象创建后不可修改，可以多线程共用。
+ * 只处理1583-9999年（格里高利历），超出范围时格式化交给{@link DateFormatCache}，解析返回{@link #INVALID}
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:58 周日
+ */
+public final class FixedDateFormat {
+
+    /** 解析失败 */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY = 2;
+    private static final int HOUR = 3;
+    private static final int MINUTE = 4;
+    private static final int SECOND = 5;
+    private static final int MILLIS = 6;
+
+    /** 每个字段对应的字母和位数 */
+    private static final String LETTERS = "yMdHmsS";
+    private static final int[] WIDTHS = {4, 2, 2, 2, 2, 2, 3};
+
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+    /** 1970-01-01到0000-03-01的天数，按月份从3月开始计算闰年更简单 */
+    private static final long DAYS_0000_TO_1970 = 719468;
+    /** 格里高利历开始的时间1582-10-15，之前的日期{@link java.util.GregorianCalendar}按儒略历计算 */
+    private static final long GREGORIAN_CUTOVER = -12219292800000L;
+    private static final int MIN_YEAR = 1583;
+    private static final int MAX_YEAR = 9999;
+
+    private final String mPattern;
+    private final TimeZone mTimeZone;
+
+    /** 格式化结果的模板，字段的位置为'0' */
+    private final char[] mTemplate;
+    private final int[] mFields;
+    private final int[] mOffsets;
+    private final boolean isDateUsed;
+
+    /**
+     * 使用当前的默认时区
+     *
+     * @param pattern 时间格式
+     */
+    public FixedDateFormat(String pattern) {
+        this(pattern, TimeZone.getDefault());
+    }
+
+    /**
+     * @param pattern  时间格式
+     * @param timeZone 时区
+     *
+     * @throws IllegalArgumentException 不支持的时间格式，见{@link #isSupported(String)}
+     */
+    public FixedDateFormat(String pattern, TimeZone timeZone) {
+        int count = countFields(pattern);
+        if (count < 0)
+            throw new IllegalArgumentException("Unsupported pattern: " + pattern);
+
+        mPattern = pattern;
+        mTimeZone = (TimeZone) timeZone.clone();
+        mTemplate = new char[pattern.length()];
+        mFields = new int[count];
+        mOffsets = new int[count];
+
+        boolean dateUsed = false;
+        int index = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            int field = LETTERS.indexOf(c);
+            if (field < 0) {
+                mTemplate[i++] = c;
+                continue;
+            }
+
+            mFields[index] = field;
+            mOffsets[index] = i;
+            index++;
+            dateUsed |= field <= DAY;
+            for (int end = i + WIDTHS[field]; i < end; i++) {
+                mTemplate[i] = '0';
+            }
+        }
+        isDateUsed = dateUsed;
+    }
+
+    /** 是否支持该时间格式 */
+    public static boolean isSupported(String pattern) {
+        return pattern != null && countFields(pattern) >= 0;
+    }
+
+    /** 字段的个数，不支持时返回-1 */
+    private static int countFields(String pattern) {
+        int count = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'')
+                return -1;
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) {
+                i++;
+                continue;
+            }
+
+            int field = LETTERS.indexOf(c);
+            if (field < 0)
+                return -1;
+            int start = i;
+            while (i < pattern.length() && pattern.charAt(i) == c) {
+                i++;
+            }
+            if (i - start != WIDTHS[field])
+                return -1;
+            count++;
+        }
+        return count;
+    }
+
+    public String getPattern() {
+        return mPattern;
+    }
+
+    public TimeZone getTimeZone() {
+        return (TimeZone) mTimeZone.clone();
+    }
+
+    /** 格式化结果的长度 */
+    public int length() {
+        return mTemplate.length;
+    }
+
+    /**
+     * 格式化时间
+     *
+     * @param time 时间戳，毫秒为单位
+     */
+    public String format(long time) {
+        char[] chars = new char[mTemplate.length];
+        if (format(time, chars, 0) < 0)
+            return DateFormatCache.format(mPattern, Locale.US, mTimeZone, time);
+        return new String(chars);
+    }
+
+    /**
+     * 格式化时间，添加到builder的末尾
+     *
+     * @param time    时间戳，毫秒为单位
+     * @param builder 格式化结果
+     */
+    public void format(long time, StringBuilder builder) {
+        long fields = toFields(time);
+        if (fields < 0) {
+            builder.append(DateFormatCache.format(mPattern, Locale.US, mTimeZone, time));
+            return;
+        }
+
+        int start = builder.length();
+        builder.append(mTemplate);
+        for (int i = 0; i < mFields.length; i++) {
+            int field = mFields[i];
+            int value = getField(fields, field);
+            for (int end = start + mOffsets[i], j = end + WIDTHS[field] - 1; j >= end; j--) {
+                builder.setCharAt(j, (char) ('0' + value % 10));
+                value /= 10;
+            }
+        }
+    }
+
+    /**
+     * 格式化时间，写入dest，需要{@link #length()}个字符的空间
+     *
+     * @param time   时间戳，毫秒为单位
+     * @param dest   格式化结果
+     * @param offset 写入的位置
+     *
+     * @return 写入后的位置，超出支持的年份时返回-1，不写入
+     */
+    public int format(long time, char[] dest, int offset) {
+        long fields = toFields(time);
+        if (fields < 0)
+            return -1;
+
+        System.arraycopy(mTemplate, 0, dest, offset, mTemplate.length);
+        for (int i = 0; i < mFields.length; i++) {
+            int field = mFields[i];
+            int value = getField(fields, field);
+            for (int end = offset + mOffsets[i], j = end + WIDTHS[field] - 1; j >= end; j--) {
+                dest[j] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+        return offset + mTemplate.length;
+    }
+
+    /**
+     * 解析时间，格式中没有的字段和{@link java.text.SimpleDateFormat}一样按1970-01-01 00:00:00.000计算
+     *
+     * @param text 时间，长度需要和格式一致
+     *
+     * @return 时间戳，格式不一致、日期不存在或者超出范围时返回{@link #INVALID}
+     */
+    public long parse(CharSequence text) {
+        if (text.length() != mTemplate.length)
+            return INVALID;
+        return parse(text, 0);
+    }
+
+    /**
+     * 从offset开始解析时间，读取{@link #length()}个字符
+     *
+     * @param text   时间
+     * @param offset 开始的位置
+     *
+     * @return 时间戳，格式不一致、日期不存在或者超出范围时返回{@link #INVALID}
+     */
+    public long parse(CharSequence text, int offset) {
+        if (offset < 0 || text.length() - offset < mTemplate.length)
+            return INVALID;
+
+        int year = 1970;
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int millis = 0;
+
+        int index = 0;
+        for (int i = 0; i < mTemplate.length; ) {
+            if (index < mFields.length && mOffsets[index] == i) {
+                int field = mFields[index++];
+                int value = 0;
+                for (int end = i + WIDTHS[field]; i < end; i++) {
+                    int digit = text.charAt(offset + i) - '0';
+                    if (digit < 0 || digit > 9)
+                        return INVALID;
+                    value = value * 10 + digit;
+                }
+                switch (field) {
+                    case YEAR:
+                        year = value;
+                        break;
+                    case MONTH:
+                        month = value;
+                        break;
+                    case DAY:
+                        day = value;
+                        break;
+                    case HOUR:
+                        hour = value;
+                        break;
+                    case MINUTE:
+                        minute = value;
+                        break;
+                    case SECOND:
+                        second = value;
+                        break;
+                    default:
+                        millis = value;
+                        break;
+                }
+            } else if (text.charAt(offset + i) != mTemplate[i]) {
+                return INVALID;
+            } else {
+                i++;
+            }
+        }
+
+        if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > getDaysOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59)
+            return INVALID;
+
+        long local = daysFromCivil(year, month, day) * MILLIS_PER_DAY
+                + (hour * 3600 + minute * 60 + second) * 1000L + millis;
+        return toUtc(local);
+    }
+
+    /**
+     * 时间戳转换为本地时间的各个字段
+     *
+     * @return 年 &lt;&lt; 36 | 月 &lt;&lt; 32 | 日 &lt;&lt; 27 | 当天的毫秒数，超出支持的年份时返回-1
+     */
+    private long toFields(long time) {
+        long local = time + mTimeZone.getOffset(time);
+        long days = floorDiv(local, MILLIS_PER_DAY);
+        long millisOfDay = local - days * MILLIS_PER_DAY;
+
+        long date = civilFromDays(days);
+        long year = date >> 16;
+        if (isDateUsed && (time < GREGORIAN_CUTOVER || year < MIN_YEAR || year > MAX_YEAR))
+            return -1;
+        if (year < 0 || year > MAX_YEAR)
+            year = 0;
+        return year << 36 | (date & 0xFF00) << 24 | (date & 0xFF) << 27 | millisOfDay;
+    }
+
+    private static int getField(long fields, int field) {
+        int millisOfDay = (int) (fields & 0x7FFFFFF);
+        switch (field) {
+            case YEAR:
+                return (int) (fields >>> 36);
+            case MONTH:
+                return (int) (fields >>> 32) & 0xF;
+            case DAY:
+                return (int) (fields >>> 27) & 0x1F;
+            case HOUR:
+                return millisOfDay / 3600000;
+            case MINUTE:
+                return millisOfDay / 60000 % 60;
+            case SECOND:
+                return millisOfDay / 1000 % 60;
+            default:
+                return millisOfDay % 1000;
+        }
+    }
+
+    /**
+     * 本地时间转换为时间戳，和{@link java.util.GregorianCalendar}的处理一致：
+     * 夏令时开始时不存在的时间按切换前的时差计算，结束时重复的时间取后一个
+     */
+    private long toUtc(long local) {
+        int before = mTimeZone.getOffset(local - 2 * MILLIS_PER_DAY);
+        int after = mTimeZone.getOffset(local + 2 * MILLIS_PER_DAY);
+        if (before == after)
+            return local - before;
+
+        long time = local - after;
+        return mTimeZone.getOffset(time) == after ? time : local - before;
+    }
+
+    /**
+     * 天数转换为年月日
+     *
+     * @param days 从1970-01-01开始的天数
+     *
+     * @return 年 &lt;&lt; 16 | 月 &lt;&lt; 8 | 日
+     */
+    private static long civilFromDays(long days) {
+        days += DAYS_0000_TO_1970;
+        long era = floorDiv(days, 146097);
+        long dayOfEra = days - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+        long month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 16 | month << 8 | day;
+    }
+
+    /** 年月日转换为从1970-01-01开始的天数 */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    private static int getDaysOfMonth(int year, int month) {
+        if (month == 2)
+            return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    private static long floorDiv(long x, long y) {
+        long result = x / y;
+        if ((x % y != 0) && ((x ^ y) < 0))
+            result--;
+        return result;
+    }
+}
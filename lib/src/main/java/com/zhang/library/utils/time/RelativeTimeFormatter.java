@@ -0,0 +1,151 @@
+package com.zhang.library.utils.time;
+
+import com.zhang.library.utils.TimeUtils;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * 相对时间，例如"刚刚"、"5分前"、"3小时前"、"2天前"，超过7天显示"yyyy-MM-dd"
+ * <p>
+ * 返回的都是预先创建好的字符串，日期按天缓存，同一个结果每次返回同一个对象；
+ * {@link #getNextChangeTime(long, long)}返回结果下次改变的时间，列表可以统一在这个时间刷新，不需要每次都重新计算
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public final class RelativeTimeFormatter {
+
+    public static final String JUST_NOW = "刚刚";
+
+    private static final long MINUTE = 60 * 1000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+    /** 超过7天显示日期 */
+    private static final int MAX_DAYS = 7;
+
+    private static final String[] MINUTES = labels(60, "分前");
+    private static final String[] HOURS = labels(24, "小时前");
+    private static final String[] DAYS = labels(MAX_DAYS, "天前");
+
+    /** 缓存的日期个数，按日期取余存放 */
+    private static final int DATE_SIZE = 64;
+
+    private static volatile RelativeTimeFormatter sDefault;
+
+    private final Locale mLocale;
+    private final TimeZone mTimeZone;
+    private final ZoneOffsetTable mOffsets;
+    private final DateLabel[] mDates = new DateLabel[DATE_SIZE];
+
+    /**
+     * @param locale   日期的地区
+     * @param timeZone 日期的时区
+     */
+    public RelativeTimeFormatter(Locale locale, TimeZone timeZone) {
+        mLocale = locale;
+        mTimeZone = (TimeZone) timeZone.clone();
+        mOffsets = new ZoneOffsetTable(mTimeZone);
+    }
+
+    /** 使用当前的默认地区和默认时区，默认时区按{@link DefaultTimeZone}检查，改变后最晚1秒重新创建 */
+    public static RelativeTimeFormatter getDefault() {
+        Locale locale = Locale.getDefault();
+        TimeZone timeZone = DefaultTimeZone.get();
+        RelativeTimeFormatter formatter = sDefault;
+        if (formatter == null || !formatter.mLocale.equals(locale) || !formatter.mTimeZone.getID().equals(timeZone.getID())) {
+            formatter = new RelativeTimeFormatter(locale, timeZone);
+            sDefault = formatter;
+        }
+        return formatter;
+    }
+
+    /** 下次使用时重新读取默认时区并重新创建，需要立即生效时调用 */
+    public static void clearDefault() {
+        sDefault = null;
+        DefaultTimeZone.reset();
+    }
+
+    /**
+     * 获取相对时间，time在now之后时同样显示为"N分前"
+     *
+     * @param time 时间戳，毫秒为单位
+     * @param now  当前时间，毫秒为单位
+     */
+    public String format(long time, long now) {
+        long diff = Math.abs(now - time);
+        if (diff < MINUTE)
+            return JUST_NOW;
+        if (diff < HOUR)
+            return MINUTES[(int) (diff / MINUTE)];
+        if (diff < DAY)
+            return HOURS[(int) (diff / HOUR)];
+        if (diff < MAX_DAYS * DAY)
+            return DAYS[(int) (diff / DAY)];
+        return getDate(time);
+    }
+
+    /**
+     * 获取{@link #format(long, long)}的结果下次改变的时间
+     *
+     * @param time 时间戳，毫秒为单位
+     * @param now  当前时间，毫秒为单位
+     *
+     * @return 时间戳，毫秒为单位，以后不会再改变时返回{@link Long#MAX_VALUE}
+     */
+    public long getNextChangeTime(long time, long now) {
+        if (now >= time) {
+            long diff = now - time;
+            if (diff >= MAX_DAYS * DAY)
+                return Long.MAX_VALUE;
+            long unit = getUnit(diff);
+            return time + (diff / unit + 1) * unit;
+        }
+
+        //还没到的时间，差值减小到当前区间的下限以下时改变，"刚刚"一直持续到time之后一分钟
+        long diff = time - now;
+        if (diff < MINUTE)
+            return time + MINUTE;
+        if (diff >= MAX_DAYS * DAY)
+            return time - MAX_DAYS * DAY + 1;
+        long unit = getUnit(diff);
+        return time - diff / unit * unit + 1;
+    }
+
+    private static long getUnit(long diff) {
+        if (diff < HOUR)
+            return MINUTE;
+        if (diff < DAY)
+            return HOUR;
+        return DAY;
+    }
+
+    private String getDate(long time) {
+        long day = mOffsets.getEpochDay(time);
+        int index = (int) day & (DATE_SIZE - 1);
+        DateLabel label = mDates[index];
+        if (label == null || label.day != day) {
+            label = new DateLabel(day, DateFormatCache.format(TimeUtils.DATE_FORMAT_YYYY_MM_DD, mLocale, mTimeZone, time));
+            mDates[index] = label;
+        }
+        return label.text;
+    }
+
+    private static String[] labels(int count, String suffix) {
+        String[] labels = new String[count];
+        for (int i = 1; i < count; i++) {
+            labels[i] = (i + suffix).intern();
+        }
+        return labels;
+    }
+
+    /** 不可修改，多线程读写数组时不需要加锁 */
+    private static final class DateLabel {
+        final long day;
+        final String text;
+
+        DateLabel(long day, String text) {
+            this.day = day;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.zhang.library.utils.time;
+
+import android.os.Handler;
+
+import com.zhang.library.utils.HandlerManager;
+import com.zhang.library.utils.TimeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * 进程内共用的时钟，在主线程按需要的时间刷新
+ * <p>
+ * 相对时间（{@link TimeUtils#calculateTimeDifference(long)}）只在显示的内容改变时回调，秒和分钟的回调对齐整秒、整分；
+ * 所有回调共用{@link HandlerManager#getMainHandler()}的一个定时任务，不需要每个控件单独post。
+ * 按owner（控件或者ViewHolder）弱引用保存，owner回收后自动移除，也可以主动调用unregister；
+ * 回调强引用保存，回调时传入owner，回调本身不能引用owner，否则owner不会被回收，例如：
+ * <pre>
+ * TimeTicker.getInstance().registerTimeLabel(textView, time, (view, label) -&gt; view.setText(label));
+ * </pre>
+ * 所有方法都需要在主线程调用
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public final class TimeTicker {
+
+    private static volatile TimeTicker instance;
+
+    private final Handler mHandler;
+    private final Runnable mTickRunnable;
+
+    /** 相对时间，key为owner */
+    private final Map<Object, Label> mLabels;
+    /** 秒和分钟的回调，key为owner */
+    private final Map<Object, Tick> mTicks;
+
+    /** 回调前先收集起来，回调中可以注册或者取消 */
+    private final List<Object> mChangedLabels;
+    private final List<Object> mChangedTicks;
+
+    /** 已经安排的下次刷新时间 */
+    private long mNextTickTime;
+
+    private TimeTicker() {
+        mHandler = HandlerManager.getMainHandler();
+        mTickRunnable = new Runnable() {
+            @Override
+            public void run() {
+                mNextTickTime = Long.MAX_VALUE;
+                tick(System.currentTimeMillis());
+            }
+        };
+        mLabels = new WeakHashMap<>();
+        mTicks = new WeakHashMap<>();
+        mChangedLabels = new ArrayList<>();
+        mChangedTicks = new ArrayList<>();
+        mNextTickTime = Long.MAX_VALUE;
+    }
+
+    public static TimeTicker getInstance() {
+        if (instance == null) {
+            synchronized (TimeTicker.class) {
+                if (instance == null)
+                    instance = new TimeTicker();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 绑定相对时间，同一个owner再次绑定时替换原来的时间和回调，适合列表复用
+     *
+     * @param owner    显示时间的控件或者ViewHolder，弱引用保存
+     * @param time     时间戳，毫秒为单位
+     * @param callback 显示内容改变时回调，强引用保存，不能引用owner
+     *
+     * @return 当前显示的内容
+     */
+    public <T> String registerTimeLabel(T owner, long time, TimeLabelChangedCallback<? super T> callback) {
+        long now = System.currentTimeMillis();
+        RelativeTimeFormatter formatter = RelativeTimeFormatter.getDefault();
+
+        Label label = mLabels.get(owner);
+        if (label == null) {
+            label = new Label();
+            mLabels.put(owner, label);
+        }
+        label.callback = callback;
+        label.time = time;
+        label.text = formatter.format(time, now);
+        label.nextChangeTime = formatter.getNextChangeTime(time, now);
+        schedule(label.nextChangeTime, now);
+        return label.text;
+    }
+
+    /** 取消owner绑定的相对时间 */
+    public void unregisterTimeLabel(Object owner) {
+        mLabels.remove(owner);
+    }
+
+    /**
+     * 注册秒或者分钟的回调，同一个owner再次注册时替换原来的设置
+     *
+     * @param owner         控件或者ViewHolder，弱引用保存
+     * @param isEverySecond true每秒回调，false每分钟回调
+     * @param callback      回调，强引用保存，不能引用owner
+     */
+    public <T> void registerTick(T owner, boolean isEverySecond, TickCallback<? super T> callback) {
+        long now = System.currentTimeMillis();
+        Tick tick = mTicks.get(owner);
+        if (tick == null) {
+            tick = new Tick();
+            mTicks.put(owner, tick);
+        }
+        tick.callback = callback;
+        tick.interval = isEverySecond ? TimeUtils.SECOND_IN_MILLIS : TimeUtils.MINUTE_IN_MILLIS;
+        tick.nextTickTime = align(now, tick.interval);
+        schedule(tick.nextTickTime, now);
+    }
+
+    /** 取消owner的秒或者分钟的回调 */
+    public void unregisterTick(Object owner) {
+        mTicks.remove(owner);
+    }
+
+    /** 重新计算所有相对时间，系统时间或者时区改变、回到前台时调用 */
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        for (Label label : mLabels.values()) {
+            label.nextChangeTime = now;
+        }
+        tick(now);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void tick(long now) {
+        RelativeTimeFormatter formatter = RelativeTimeFormatter.getDefault();
+        long next = Long.MAX_VALUE;
+
+        for (Map.Entry<Object, Label> entry : mLabels.entrySet()) {
+            Label label = entry.getValue();
+            if (label.nextChangeTime <= now) {
+                String text = formatter.format(label.time, now);
+                label.nextChangeTime = formatter.getNextChangeTime(label.time, now);
+                if (!text.equals(label.text)) {
+                    label.text = text;
+                    mChangedLabels.add(entry.getKey());
+                }
+            }
+            next = Math.min(next, label.nextChangeTime);
+        }
+
+        for (Map.Entry<Object, Tick> entry : mTicks.entrySet()) {
+            Tick tick = entry.getValue();
+            if (tick.nextTickTime <= now) {
+                tick.nextTickTime = align(now, tick.interval);
+                mChangedTicks.add(entry.getKey());
+            }
+            next = Math.min(next, tick.nextTickTime);
+        }
+
+        schedule(next, now);
+
+        for (int i = 0; i < mChangedLabels.size(); i++) {
+            Object owner = mChangedLabels.get(i);
+            Label label = mLabels.get(owner);
+            if (label != null)
+                label.callback.onTimeLabelChanged(owner, label.text);
+        }
+        mChangedLabels.clear();
+
+        for (int i = 0; i < mChangedTicks.size(); i++) {
+            Object owner = mChangedTicks.get(i);
+            Tick tick = mTicks.get(owner);
+            if (tick != null)
+                tick.callback.onTick(owner, now);
+        }
+        mChangedTicks.clear();
+    }
+
+    /** 没有更早的刷新时安排到time */
+    private void schedule(long time, long now) {
+        if (time == Long.MAX_VALUE || time >= mNextTickTime)
+            return;
+
+        mNextTickTime = time;
+        mHandler.removeCallbacks(mTickRunnable);
+        mHandler.postDelayed(mTickRunnable, Math.max(0, time - now));
+    }
+
+    /** 下一个整秒或者整分的时间 */
+    private static long align(long now, long interval) {
+        return (now / interval + 1) * interval;
+    }
+
+    /** 相对时间改变的回调 */
+    public interface TimeLabelChangedCallback<T> {
+
+        /**
+         * 显示的内容改变
+         *
+         * @param owner 注册时的owner
+         * @param label 新的内容，见{@link TimeUtils#calculateTimeDifference(long)}
+         */
+        void onTimeLabelChanged(T owner, String label);
+    }
+
+    /** 秒或者分钟的回调 */
+    public interface TickCallback<T> {
+
+        /**
+         * 到了整秒或者整分
+         *
+         * @param owner 注册时的owner
+         * @param now   当前时间，毫秒为单位
+         */
+        void onTick(T owner, long now);
+    }
+
+    /** 注册时owner和回调的类型一致，回调时按Object调用 */
+    @SuppressWarnings("rawtypes")
+    private static final class Label {
+        TimeLabelChangedCallback callback;
+        long time;
+        String text;
+        long nextChangeTime;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final class Tick {
+        TickCallback callback;
+        long interval;
+        long nextTickTime;
+    }
+}
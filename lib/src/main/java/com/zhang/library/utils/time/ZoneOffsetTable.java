@@ -0,0 +1,130 @@
+package com.zhang.library.utils.time;
+
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 按天缓存时区的时差，用于不创建Calendar的日期计算
+ * <p>
+ * 每个UTC日期缓存一次时差，当天有夏令时切换时直接查询{@link TimeZone}。
+ * 默认时区的表按{@link DefaultTimeZone}检查，系统时区改变后最晚1秒重新创建
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public final class ZoneOffsetTable {
+
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+
+    /** 缓存的天数，按日期取余存放 */
+    private static final int SIZE = 256;
+    /** 空位置，对应的日期不会用到 */
+    private static final long EMPTY = Long.MIN_VALUE;
+    /** 当天时差有变化 */
+    private static final int VARIABLE = Integer.MIN_VALUE;
+
+    private static volatile ZoneOffsetTable sDefault;
+
+    private final TimeZone mTimeZone;
+    /** 日期 &lt;&lt; 32 | 时差，64位系统之外long的读写不是原子操作，所以用AtomicLongArray */
+    private final AtomicLongArray mOffsets = new AtomicLongArray(SIZE);
+
+    /**
+     * @param timeZone 时区
+     */
+    public ZoneOffsetTable(TimeZone timeZone) {
+        mTimeZone = (TimeZone) timeZone.clone();
+        for (int i = 0; i < SIZE; i++) {
+            mOffsets.set(i, EMPTY);
+        }
+    }
+
+    /** 当前默认时区的表 */
+    public static ZoneOffsetTable getDefault() {
+        TimeZone timeZone = DefaultTimeZone.get();
+        ZoneOffsetTable table = sDefault;
+        if (table == null || !table.mTimeZone.getID().equals(timeZone.getID())) {
+            table = new ZoneOffsetTable(timeZone);
+            sDefault = table;
+        }
+        return table;
+    }
+
+    /** 下次使用时重新读取默认时区并重新创建，需要立即生效时调用 */
+    public static void clearDefault() {
+        sDefault = null;
+        DefaultTimeZone.reset();
+    }
+
+    public TimeZone getTimeZone() {
+        return (TimeZone) mTimeZone.clone();
+    }
+
+    /**
+     * 获取时差，和{@link TimeZone#getOffset(long)}一致
+     *
+     * @param time 时间戳，毫秒为单位
+     *
+     * @return 时差，毫秒为单位
+     */
+    public int getOffset(long time) {
+        long day = floorDiv(time, MILLIS_PER_DAY);
+        int index = (int) day & (SIZE - 1);
+        long entry = mOffsets.get(index);
+        int offset;
+        if (entry != EMPTY && entry >> 32 == day) {
+            offset = (int) entry;
+        } else {
+            long start = day * MILLIS_PER_DAY;
+            offset = mTimeZone.getOffset(start);
+            if (mTimeZone.getOffset(start + MILLIS_PER_DAY - 1) != offset)
+                offset = VARIABLE;
+            mOffsets.set(index, day << 32 | (offset & 0xFFFFFFFFL));
+        }
+        return offset == VARIABLE ? mTimeZone.getOffset(time) : offset;
+    }
+
+    /**
+     * 获取本地日期
+     *
+     * @param time 时间戳，毫秒为单位
+     *
+     * @return 从1970-01-01开始的天数
+     */
+    public long getEpochDay(long time) {
+        return floorDiv(time + getOffset(time), MILLIS_PER_DAY);
+    }
+
+    /**
+     * 获取本地日期开始的时间，当天0点因为夏令时不存在时返回切换后的时间
+     *
+     * @param epochDay 从1970-01-01开始的天数
+     *
+     * @return 时间戳，毫秒为单位
+     */
+    public long getStartOfDay(long epochDay) {
+        return toUtc(epochDay * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 本地时间转换为时间戳，和{@link java.util.GregorianCalendar}的处理一致：
+     * 夏令时开始时不存在的时间按切换前的时差计算，结束时重复的时间取后一个
+     *
+     * @param local 本地时间，从1970-01-01 00:00:00开始的毫秒数
+     */
+    public long toUtc(long local) {
+        int before = getOffset(local - 2 * MILLIS_PER_DAY);
+        int after = getOffset(local + 2 * MILLIS_PER_DAY);
+        if (before == after)
+            return local - before;
+
+        long time = local - after;
+        return getOffset(time) == after ? time : local - before;
+    }
+
+    private static long floorDiv(long x, long y) {
+        long result = x / y;
+        if ((x % y != 0) && ((x ^ y) < 0))
+            result--;
+        return result;
+    }
+}
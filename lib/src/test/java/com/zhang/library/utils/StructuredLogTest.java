@@ -0,0 +1,139 @@
+package com.zhang.library.utils;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.zhang.library.utils.log.AsyncLogger;
+import com.zhang.library.utils.log.JsonFormatter;
+import com.zhang.library.utils.log.LogEvent;
+import com.zhang.library.utils.log.LogSink;
+import com.zhang.library.utils.log.OverflowPolicy;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link StructuredLog}的复用、嵌套和调用位置字段
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class StructuredLogTest {
+
+    private final List<String> mTexts = Collections.synchronizedList(new ArrayList<String>());
+
+    @Before
+    public void setUp() {
+        LogUtils.init(true, false);
+        LogUtils.startAsync(new AsyncLogger(64, OverflowPolicy.BLOCK).addSink(new LogSink() {
+            @Override
+            public void write(LogEvent event) {
+                mTexts.add(event.getTag() + ": " + event.getText());
+            }
+        }));
+    }
+
+    @After
+    public void tearDown() {
+        LogUtils.stopAsync();
+        LogUtils.init(false, false);
+        LogUtils.setStructuredFormatter(null);
+    }
+
+    @Test
+    public void obtain_nestedLogKeepsOuterFields() {
+        StructuredLog outer = LogUtils.at(LogUtils.INFO).tag("Outer").kv("a", 1);
+        //获取到输出之间再次使用结构化日志
+        StructuredLog inner = LogUtils.at(LogUtils.INFO).tag("Inner").kv("x", 2);
+        assertNotSame(outer, inner);
+        inner.log("inner");
+        outer.kv("b", 3).kv("obj", new Object() {
+            @Override
+            public String toString() {
+                LogUtils.at(LogUtils.INFO).tag("ToString").kv("y", 4).log("nested");
+                return "value";
+            }
+        }).log("outer");
+
+        assertEquals(Arrays.asList("Inner: inner x=2", "ToString: nested y=4", "Outer: outer a=1 b=3 obj=value"), getTexts());
+    }
+
+    @Test
+    public void obtain_reusedAfterLog() {
+        StructuredLog log = LogUtils.at(LogUtils.INFO);
+        log.tag("Tag").log("first");
+        StructuredLog again = LogUtils.at(LogUtils.INFO);
+        assertSame(log, again);
+        again.tag("Tag").log("second");
+
+        //不输出的日志不占用复用的对象
+        LogUtils.init(false, false);
+        StructuredLog disabled = LogUtils.at(LogUtils.INFO).tag("Tag").kv("a", 1);
+        LogUtils.init(true, false);
+        StructuredLog enabled = LogUtils.at(LogUtils.INFO).tag("Tag");
+        assertSame(log, enabled);
+        disabled.kv("b", 2).log("disabled");
+        enabled.kv("c", 3).log("enabled");
+
+        assertEquals(Arrays.asList("Tag: first", "Tag: second", "Tag: enabled c=3"), getTexts());
+    }
+
+    @Test
+    public void json_callSiteAsField() {
+        LogUtils.init(true, true);
+        LogUtils.setStructuredFormatter(new JsonFormatter());
+        LogUtils.at(LogUtils.INFO).tag("Tag").kv("userId", 1001).kv("name", "Tom \"Lee\"").kv("ok", true).log("loaded");
+
+        List<String> texts = getTexts();
+        assertEquals(1, texts.size());
+        String text = texts.get(0);
+        assertTrue(text, text.startsWith("Tag: {"));
+        //整条日志是合法的JSON，没有调用位置前缀
+        JsonObject json = JsonParser.parseString(text.substring("Tag: ".length())).getAsJsonObject();
+        assertEquals("loaded", json.get(JsonFormatter.KEY_MESSAGE).getAsString());
+        assertEquals(1001, json.get("userId").getAsInt());
+        assertEquals("Tom \"Lee\"", json.get("name").getAsString());
+        assertTrue(json.get("ok").getAsBoolean());
+        assertEquals("json_callSiteAsField", json.get(StructuredLog.KEY_METHOD).getAsString());
+        assertTrue(json.get(StructuredLog.KEY_LINE).getAsInt() > 0);
+    }
+
+    @Test
+    public void keyValue_callSiteAsField() {
+        LogUtils.init(true, true);
+        LogUtils.at(LogUtils.INFO).tag("Tag").kv("userId", 1001).kv("name", "Tom Lee").log("loaded");
+
+        List<String> texts = getTexts();
+        assertEquals(1, texts.size());
+        String text = texts.get(0);
+        assertTrue(text, text.matches("Tag: loaded userId=1001 name=\"Tom Lee\" method=keyValue_callSiteAsField line=\\d+"));
+    }
+
+    @Test
+    public void withoutTrack_noCallSiteField() {
+        LogUtils.setStructuredFormatter(new JsonFormatter());
+        LogUtils.at(LogUtils.INFO).tag("Tag").kv("d", 1.5).log();
+
+        List<String> texts = getTexts();
+        assertEquals(Collections.singletonList("Tag: {\"d\":1.5}"), texts);
+        assertFalse(texts.get(0).contains(StructuredLog.KEY_METHOD));
+    }
+
+    /** 等异步日志输出完后获取 */
+    private List<String> getTexts() {
+        LogUtils.stopAsync();
+        synchronized (mTexts) {
+            return new ArrayList<>(mTexts);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link FastDateTypeAdapter}的格式化和解析
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class FastDateTypeAdapterTest {
+
+    private final FastDateTypeAdapter mAdapter = new FastDateTypeAdapter(TimeZone.getTimeZone("Asia/Shanghai"));
+
+    @Test
+    public void defaultPattern() throws IOException {
+        assertEquals("2020-01-05 03:04:05", mAdapter.format(1578164645000L));
+        assertEquals(1578164645000L, read("2020-01-05 03:04:05"));
+        assertEquals(1578164645000L, read("2020-1-5 3:4:5"));
+    }
+
+    @Test
+    public void iso8601() throws IOException {
+        assertEquals(1578164645123L, read("2020-01-05T03:04:05.123+08:00"));
+        assertEquals(1578193445000L, read("2020-01-05T03:04:05Z"));
+        assertEquals(1578193440000L, read("2020-01-05T03:04Z"));
+        assertEquals(1578206045500L, read("2020-01-05T03:04:05.5-0330"));
+        assertEquals(1578175445123L, read("2020-01-05T03:04:05.123456+05"));
+        assertEquals(1578153600000L, read("2020-01-05"));
+    }
+
+    @Test
+    public void invalid() throws IOException {
+        String[] texts = {"bad", "2020-01-05T03:04:05", "2020-01-05T03:04:05.+08:00", "2020-01-05T03:04:05+8"};
+        for (String text : texts) {
+            try {
+                read(text);
+                fail(text);
+            } catch (JsonSyntaxException ignored) {
+            }
+        }
+    }
+
+    private long read(String text) throws IOException {
+        return mAdapter.read(new JsonReader(new StringReader("\"" + text + "\""))).getTime();
+    }
+}
@@ -0,0 +1,161 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.annotations.SerializedName;
+import com.zhang.library.utils.json.annotation.FastJson;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * json-processor为{@link FastJson}生成的解析器和Gson的反射解析结果一致
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class FastJsonAdapterTest {
+
+    public static class Base {
+        public long id;
+        @SerializedName("base_name")
+        public String baseName;
+    }
+
+    @FastJson
+    public static class User extends Base {
+        public int age = 7;
+        public double score;
+        public boolean vip;
+        public float ratio;
+        public Integer level;
+        public Long balance;
+        public Double rate;
+        public Boolean active;
+        @SerializedName(value = "user_name", alternate = {"name", "userName"})
+        public String userName;
+        public List<String> tags;
+        public Map<String, Integer> counts;
+        public Address address;
+        public static int sCount = 1;
+        public transient int cache = 2;
+    }
+
+    @FastJson
+    public static class Address {
+        public String city;
+        public int zip;
+    }
+
+    private final Gson mReflective = new Gson();
+    private final Gson mFast = new GsonBuilder().registerTypeAdapterFactory(new FastJsonAdapterFactory()).create();
+
+    @Test
+    public void adapterGenerated() {
+        assertTrue(mFast.getAdapter(User.class).getClass().getName().endsWith("FastJsonAdapterTest_User_FastJsonAdapter"));
+        assertTrue(mFast.getAdapter(Address.class).getClass().getName().endsWith("FastJsonAdapterTest_Address_FastJsonAdapter"));
+    }
+
+    @Test
+    public void toJson_sameAsReflection() {
+        //字段顺序：子类字段在前，static和transient字段跳过
+        assertToJson(new User());
+        assertToJson(createUser());
+
+        Gson reflective = new GsonBuilder().serializeNulls().create();
+        Gson fast = new GsonBuilder().serializeNulls().registerTypeAdapterFactory(new FastJsonAdapterFactory()).create();
+        assertEquals(reflective.toJson(new User()), fast.toJson(new User()));
+        assertEquals(reflective.toJson(createUser()), fast.toJson(createUser()));
+        assertEquals("null", fast.toJson(null, User.class));
+    }
+
+    @Test
+    public void fromJson_sameAsReflection() {
+        assertFromJson(mReflective.toJson(createUser()));
+        //alternate名称、基本类型的null保持默认值、字符串形式的数字和boolean、未知字段
+        assertFromJson("{\"name\":\"a\",\"age\":null,\"score\":null,\"vip\":null,\"ratio\":null,\"level\":null,\"id\":\"12\"}");
+        assertFromJson("{\"userName\":\"b\",\"user_name\":\"c\",\"age\":\"5\",\"vip\":\"true\",\"active\":\"false\",\"base_name\":true}");
+        assertFromJson("{\"unknown\":{\"a\":[1,2]},\"address\":null,\"tags\":null,\"baseName\":\"x\",\"cache\":9,\"sCount\":9}");
+        assertFromJson("{\"ratio\":1.5,\"rate\":2,\"balance\":9007199254740993,\"address\":{\"zip\":100000}}");
+        assertEquals(null, mFast.fromJson("null", User.class));
+    }
+
+    @Test
+    public void fromJson_invalidNumber() {
+        for (String json : new String[]{"{\"age\":1.5}", "{\"age\":\"x\"}", "{\"balance\":\"1e400\"}"}) {
+            Class<?> expected = getException(mReflective, json);
+            assertEquals(json, expected, getException(mFast, json));
+        }
+    }
+
+    @Test
+    public void nan_followsGsonConfig() {
+        User user = createUser();
+        user.score = Double.NaN;
+        user.rate = Double.POSITIVE_INFINITY;
+
+        //默认不允许NaN和Infinity
+        for (Gson gson : new Gson[]{mReflective, mFast}) {
+            try {
+                gson.toJson(user);
+                fail();
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+
+        Gson reflective = new GsonBuilder().serializeSpecialFloatingPointValues().create();
+        Gson fast = new GsonBuilder().serializeSpecialFloatingPointValues().registerTypeAdapterFactory(new FastJsonAdapterFactory()).create();
+        String json = reflective.toJson(user);
+        assertEquals(json, fast.toJson(user));
+        assertTrue(json, json.contains("\"score\":NaN") && json.contains("\"rate\":Infinity"));
+        assertEquals(reflective.toJson(reflective.fromJson(json, User.class)), fast.toJson(fast.fromJson(json, User.class)));
+    }
+
+    private static User createUser() {
+        User user = new User();
+        user.id = 1L << 53;
+        user.baseName = "base \"name\"\n";
+        user.age = 30;
+        user.score = 98.5;
+        user.vip = true;
+        user.ratio = 0.25f;
+        user.level = 3;
+        user.balance = -5L;
+        user.rate = 0.1;
+        user.active = false;
+        user.userName = "张三";
+        user.tags = Arrays.asList("a", null, "c");
+        user.counts = Collections.singletonMap("k", 1);
+        user.address = new Address();
+        user.address.city = "Shanghai";
+        user.address.zip = 200000;
+        user.cache = 5;
+        return user;
+    }
+
+    private void assertToJson(User user) {
+        assertEquals(mReflective.toJson(user), mFast.toJson(user));
+    }
+
+    /** 解析后再用反射序列化比较所有字段 */
+    private void assertFromJson(String json) {
+        Gson all = new GsonBuilder().serializeNulls().create();
+        assertEquals(json, all.toJson(mReflective.fromJson(json, User.class)), all.toJson(mFast.fromJson(json, User.class)));
+    }
+
+    private static Class<?> getException(Gson gson, String json) {
+        try {
+            gson.fromJson(json, User.class);
+            return null;
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.zhang.library.utils.JsonUtils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * {@link JsonPath}解析和{@link JsonPathExtractor}按路径提取
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class JsonPathExtractorTest {
+
+    private static final String JSON = "{"
+            + "\"code\":0,"
+            + "\"skip\":{\"a\":[1,2,{\"b\":null}],\"c\":\"x\"},"
+            + "\"data\":{"
+            + "\"user.name\":\"zhang\","
+            + "\"items\":[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2,\"tags\":[]}],"
+            + "\"empty\":null"
+            + "}"
+            + "}";
+
+    @Test
+    public void compile() {
+        JsonPath path = JsonPath.compile("$.data['user.name'].items[12]");
+        assertEquals(4, path.size());
+        assertEquals("data", path.getName(0));
+        assertEquals("user.name", path.getName(1));
+        assertEquals("items", path.getName(2));
+        assertNull(path.getName(3));
+        assertEquals(12, path.getIndex(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compile_invalid() {
+        JsonPath.compile("data.items[x]");
+    }
+
+    @Test
+    public void extract_sameAsTree() {
+        JsonElement tree = JsonParser.parseString(JSON);
+        JsonElement data = tree.getAsJsonObject().get("data");
+
+        assertEquals(tree.getAsJsonObject().get("code"), JsonUtils.extract(JSON, "code"));
+        assertEquals(data.getAsJsonObject().get("user.name"), JsonUtils.extract(JSON, "$.data['user.name']"));
+        assertEquals(data.getAsJsonObject().get("items"), JsonUtils.extract(JSON, "data.items"));
+        assertEquals(JsonParser.parseString("\"b\""), JsonUtils.extract(JSON, "data.items[0].tags[1]"));
+        assertEquals(JsonNull.INSTANCE, JsonUtils.extract(JSON, "data.empty"));
+        assertEquals(tree, JsonUtils.extract(JSON, "$"));
+
+        assertNull(JsonUtils.extract(JSON, "data.items[2]"));
+        assertNull(JsonUtils.extract(JSON, "data.missing"));
+        assertNull(JsonUtils.extract(JSON, "code.value"));
+        assertNull(JsonUtils.extract(JSON, "data.items.id"));
+    }
+
+    @Test
+    public void extract_type() {
+        Integer id = JsonUtils.extract(JSON, "data.items[1].id", Integer.class);
+        assertEquals(Integer.valueOf(2), id);
+
+        Type listType = new TypeToken<List<String>>() {
+        }.getType();
+        List<String> tags = JsonUtils.extract(JSON, "data.items[0].tags", listType);
+        assertEquals(2, tags.size());
+        assertEquals("a", tags.get(0));
+    }
+
+    @Test
+    public void extractAll_nestedPaths() {
+        JsonElement[] values = JsonUtils.extractAll(JSON,
+                "data.items[1].id", "data.items", "data.items[0].tags[0]", "missing", "data.items[1].id");
+
+        assertEquals(JsonParser.parseString("2"), values[0]);
+        assertEquals(JsonParser.parseString(JSON).getAsJsonObject().get("data").getAsJsonObject().get("items"), values[1]);
+        assertEquals(JsonParser.parseString("\"a\""), values[2]);
+        assertNull(values[3]);
+        assertEquals(values[0], values[4]);
+    }
+
+    @Test
+    public void extract_stopsAfterAllFound() throws IOException {
+        //找到之后的内容格式错误不会读取
+        String json = "{\"a\":1,\"b\":{\"c\":2},\"d\":[ broken";
+        Object[] values = extract(json, "a", "b.c");
+        assertArrayEquals(new Object[]{JsonParser.parseString("1"), JsonParser.parseString("2")}, values);
+    }
+
+    @Test
+    public void extract_duplicateKeyCountedOnce() throws IOException {
+        //重复的字段不能让计数提前归零，否则b还没读到就停止了
+        String json = "{\"a\":1,\"a\":2,\"b\":3}";
+        Object[] values = extract(json, "a", "b");
+        assertEquals(JsonParser.parseString("1"), values[0]);
+        assertEquals(JsonParser.parseString("3"), values[1]);
+
+        json = "{\"o\":{\"x\":1},\"o\":{\"x\":2,\"y\":3}}";
+        values = extract(json, "o.x", "o.y");
+        assertEquals(JsonParser.parseString("1"), values[0]);
+        assertEquals(JsonParser.parseString("3"), values[1]);
+    }
+
+    @Test
+    public void extract_reuseExtractor() throws IOException {
+        JsonPathExtractor extractor = new JsonPathExtractor(new Gson(), new JsonPath[]{JsonPath.compile("a")}, null);
+        assertEquals(JsonParser.parseString("1"), extractor.extract(newReader("{\"a\":1}"))[0]);
+        assertNull(extractor.extract(newReader("{\"b\":1}"))[0]);
+    }
+
+    private static Object[] extract(String json, String... paths) throws IOException {
+        JsonPath[] compiledPaths = new JsonPath[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            compiledPaths[i] = JsonPath.compile(paths[i]);
+        }
+        return new JsonPathExtractor(new Gson(), compiledPaths, null).extract(newReader(json)).clone();
+    }
+
+    private static JsonReader newReader(String json) {
+        JsonReader reader = new JsonReader(new StringReader(json));
+        reader.setLenient(true);
+        return reader;
+    }
+}
@@ -0,0 +1,141 @@
+package com.zhang.library.utils.json;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.zhang.library.utils.JsonUtils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * {@link MessagePackWriter}和{@link MessagePackReader}的序列化和解析，结果和Json一致
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class MessagePackTest {
+
+    @Test
+    public void roundTrip_bean() {
+        Bean bean = new Bean();
+        bean.name = "张😀?";
+        bean.count = -33;
+        bean.total = 1L << 40;
+        bean.ratio = 0.1f;
+        bean.score = -1.5e300;
+        bean.isEnabled = true;
+        bean.values = new int[]{0, 127, 128, 255, 256, 65535, 65536, -32, -33, -128, -129, -32768, -32769,
+                Integer.MIN_VALUE, Integer.MAX_VALUE};
+        bean.child = new Bean();
+        bean.child.name = "child";
+
+        Bean result = roundTrip(bean, Bean.class);
+        assertEquals(JsonUtils.toJson(bean), JsonUtils.toJson(result));
+        assertEquals(bean.ratio, result.ratio, 0);
+        assertArrayEquals(bean.values, result.values);
+        assertNull(result.child.child);
+    }
+
+    @Test
+    public void roundTrip_largeContainers() {
+        Type mapType = new TypeToken<Map<String, Integer>>() {
+        }.getType();
+        Type listType = new TypeToken<List<Long>>() {
+        }.getType();
+        for (int size : new int[]{0, 15, 16, 17, 255, 65535, 65536, 70000}) {
+            Map<String, Integer> map = new LinkedHashMap<>();
+            List<Long> list = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                map.put("key" + i, i);
+                list.add((long) i * 1000003);
+            }
+            assertEquals(map, roundTrip(map, mapType));
+            assertEquals(list, roundTrip(list, listType));
+        }
+    }
+
+    @Test
+    public void roundTrip_nestedMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            Map<String, Object> child = new LinkedHashMap<>();
+            for (int j = 0; j < 16 + i; j++) {
+                child.put("k" + j, j % 3 == 0 ? null : Arrays.asList("v" + j, j));
+            }
+            map.put("child" + i, child);
+        }
+        assertTree(JsonUtils.toJson(map), JsonUtils.toBytes(map));
+    }
+
+    @Test
+    public void roundTrip_strings() {
+        int[] lengths = {0, 31, 32, 255, 256, 65535, 65536};
+        for (int length : lengths) {
+            char[] chars = new char[length];
+            Arrays.fill(chars, 'a');
+            String text = new String(chars);
+            assertEquals(text, roundTrip(text, String.class));
+        }
+        assertEquals("中文😀", roundTrip("中文😀", String.class));
+    }
+
+    @Test
+    public void roundTrip_numbers() {
+        BigInteger big = BigInteger.ONE.shiftLeft(70);
+        assertEquals(big, roundTrip(big, BigInteger.class));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), roundTrip(Long.MIN_VALUE, Long.class));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), roundTrip(Long.MAX_VALUE, Long.class));
+        assertEquals(Double.valueOf(Double.MIN_VALUE), roundTrip(Double.MIN_VALUE, Double.class));
+        assertNull(JsonUtils.fromBytes(JsonUtils.toBytes(null), String.class));
+    }
+
+    @Test
+    public void jsonValue() throws IOException {
+        String json = "{\"a\":[1,2.5,-3e20,true,null,\"s\"],\"b\":{}}";
+        MessagePackWriter writer = new MessagePackWriter();
+        writer.beginArray();
+        writer.jsonValue(json);
+        writer.jsonValue(null);
+        writer.endArray();
+
+        assertTree("[" + json + ",null]", writer.toByteArray());
+
+        //超出long范围的整数和BigInteger一样按字符串写入，不丢失精度
+        writer = new MessagePackWriter();
+        writer.jsonValue("12345678901234567890");
+        assertEquals(new BigInteger("12345678901234567890"), JsonUtils.fromBytes(writer.toByteArray(), BigInteger.class));
+    }
+
+    private static <T> T roundTrip(Object value, Type type) {
+        byte[] bytes = JsonUtils.toBytes(value, type);
+        return JsonUtils.fromBytes(bytes, type);
+    }
+
+    private static void assertTree(String expected, byte[] bytes) {
+        JsonElement tree = JsonUtils.fromBytes(bytes, JsonElement.class);
+        assertEquals(JsonParser.parseString(expected), JsonParser.parseString(tree.toString()));
+    }
+
+    static class Bean {
+        String name;
+        int count;
+        long total;
+        float ratio;
+        double score;
+        boolean isEnabled;
+        int[] values;
+        Bean child;
+    }
+}
@@ -0,0 +1,199 @@
+package com.zhang.library.utils.log;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link AsyncLogger}的环形队列、写满策略和停止
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class AsyncLoggerTest {
+
+    private static final int INFO = 4;
+    private static final String BLOCK = "block";
+
+    @Test
+    public void stop_drainsQueue() throws InterruptedException {
+        final AsyncLogger logger = new AsyncLogger(16, OverflowPolicy.BLOCK);
+        RecordSink sink = new RecordSink();
+        logger.addSink(sink);
+        assertTrue(logger.start());
+
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            final int id = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 500; j++) {
+                        assertTrue(logger.log(INFO, "Tag", null, -1, "%d:%d", new Object[]{id, j}));
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        logger.stop(5000);
+
+        List<String> messages = sink.getMessages();
+        assertEquals(2000, messages.size());
+        //每个线程的日志保持写入顺序
+        int[] next = new int[threads.length];
+        for (String message : messages) {
+            String[] parts = message.split(":");
+            int id = Integer.parseInt(parts[0]);
+            assertEquals(message, next[id]++, Integer.parseInt(parts[1]));
+        }
+        assertEquals(1, sink.closeCount);
+        assertEquals(0, sink.writeAfterCloseCount);
+        assertEquals(0, logger.getDroppedCount());
+        assertFalse(logger.log(INFO, "Tag", null, -1, "stopped", null));
+    }
+
+    @Test
+    public void dropNewest() throws InterruptedException {
+        AsyncLogger logger = new AsyncLogger(4, OverflowPolicy.DROP_NEWEST);
+        RecordSink sink = startBlocked(logger);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(logger.log(INFO, "Tag", null, -1, String.valueOf(i), null));
+        }
+        for (int i = 4; i < 7; i++) {
+            assertFalse(logger.log(INFO, "Tag", null, -1, String.valueOf(i), null));
+        }
+        assertEquals(3, logger.getDroppedCount());
+        assertEquals(4, logger.getPendingCount());
+
+        sink.gate.countDown();
+        logger.stop(5000);
+        assertEquals(Arrays.asList(BLOCK, "0", "1", "2", "3"), sink.getMessages());
+    }
+
+    @Test
+    public void dropOldest() throws InterruptedException {
+        AsyncLogger logger = new AsyncLogger(4, OverflowPolicy.DROP_OLDEST);
+        RecordSink sink = startBlocked(logger);
+        for (int i = 0; i < 7; i++) {
+            assertTrue(logger.log(INFO, "Tag", null, -1, String.valueOf(i), null));
+        }
+        assertEquals(3, logger.getDroppedCount());
+        assertEquals(4, logger.getPendingCount());
+
+        sink.gate.countDown();
+        logger.stop(5000);
+        assertEquals(Arrays.asList(BLOCK, "3", "4", "5", "6"), sink.getMessages());
+    }
+
+    @Test
+    public void block() throws InterruptedException {
+        final AsyncLogger logger = new AsyncLogger(4, OverflowPolicy.BLOCK);
+        RecordSink sink = startBlocked(logger);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(logger.log(INFO, "Tag", null, -1, String.valueOf(i), null));
+        }
+
+        final boolean[] result = new boolean[1];
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                result[0] = logger.log(INFO, "Tag", null, -1, "4", null);
+            }
+        });
+        writer.start();
+        writer.join(200);
+        //队列已满，写入线程等待
+        assertTrue(writer.isAlive());
+
+        sink.gate.countDown();
+        writer.join(5000);
+        assertFalse(writer.isAlive());
+        assertTrue(result[0]);
+
+        logger.stop(5000);
+        assertEquals(Arrays.asList(BLOCK, "0", "1", "2", "3", "4"), sink.getMessages());
+        assertEquals(0, logger.getDroppedCount());
+    }
+
+    @Test
+    public void stop_timeoutClosesSinksAfterDrain() throws InterruptedException {
+        AsyncLogger logger = new AsyncLogger(4, OverflowPolicy.BLOCK);
+        RecordSink sink = startBlocked(logger);
+        assertTrue(logger.log(INFO, "Tag", null, -1, "after", null));
+
+        //消费线程还在输出，不能关闭输出端，也不能启动第二个消费线程
+        logger.stop(50);
+        assertEquals(0, sink.closeCount);
+        assertFalse(logger.isRunning());
+        assertFalse(logger.start());
+
+        sink.gate.countDown();
+        assertTrue(sink.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(BLOCK, "after"), sink.getMessages());
+        assertEquals(1, sink.closeCount);
+        assertEquals(0, sink.writeAfterCloseCount);
+
+        assertTrue(logger.start());
+        logger.stop(5000);
+        assertEquals(2, sink.closeCount);
+    }
+
+    /** 启动并写入一条日志，消费线程在输出这条日志时等待{@link RecordSink#gate} */
+    private static RecordSink startBlocked(AsyncLogger logger) throws InterruptedException {
+        RecordSink sink = new RecordSink();
+        logger.addSink(sink);
+        assertTrue(logger.start());
+        assertTrue(logger.log(INFO, "Tag", null, -1, BLOCK, null));
+        assertTrue(sink.entered.await(5, TimeUnit.SECONDS));
+        return sink;
+    }
+
+    private static final class RecordSink implements LogSink {
+        final CountDownLatch gate = new CountDownLatch(1);
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        private final List<String> mMessages = Collections.synchronizedList(new ArrayList<String>());
+        volatile int closeCount;
+        volatile int writeAfterCloseCount;
+
+        @Override
+        public void write(LogEvent event) {
+            if (closeCount > 0)
+                writeAfterCloseCount++;
+
+            String message = event.getMessage();
+            mMessages.add(message);
+            if (BLOCK.equals(message)) {
+                entered.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            closeCount++;
+            closed.countDown();
+        }
+
+        List<String> getMessages() {
+            synchronized (mMessages) {
+                return new ArrayList<>(mMessages);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.zhang.library.utils.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link BinaryLogEncoder}编码后经{@link BinaryLogDecoder}解码，结果和{@link TextLogEncoder}一致
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class BinaryLogEncoderTest {
+
+    private TimeZone mDefaultTimeZone;
+
+    @Before
+    public void setUp() {
+        mDefaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"));
+    }
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(mDefaultTimeZone);
+    }
+
+    @Test
+    public void decode_matchesTextEncoder() throws Exception {
+        Object[][] events = {
+                {"plain message", null},
+                {"int=%d long=%d", new Object[]{42, -7L}},
+                {"double=%.3f float=%s", new Object[]{Math.PI, 1.5f}},
+                {"bool=%b char=%c byte=%d short=%d", new Object[]{true, 'x', (byte) -3, (short) 300}},
+                {"hex=%x string=%s null=%s", new Object[]{255, "中文", null}},
+                {"year=%tY hour=%tH", new Object[]{new Date(1760000000000L), new Date(1760000000000L)}},
+                {"decimal=%.2f big=%d", new Object[]{new BigDecimal("3.14159"), new BigInteger("123456789012345678901234567890")}},
+                {"hex=%x", new Object[]{new BigInteger("255")}},
+        };
+
+        BinaryLogEncoder binaryEncoder = new BinaryLogEncoder();
+        TextLogEncoder textEncoder = new TextLogEncoder();
+        ByteBuffer binary = ByteBuffer.allocate(64 * 1024);
+        ByteBuffer text = ByteBuffer.allocate(64 * 1024);
+        assertTrue(binaryEncoder.begin(binary, System.currentTimeMillis()));
+        assertTrue(textEncoder.begin(text, System.currentTimeMillis()));
+
+        for (int i = 0; i < events.length; i++) {
+            LogEvent event = new LogEvent();
+            event.set(i % 2 == 0 ? 3 : 4, "Tag", i % 2 == 0 ? null : "method", i, (String) events[i][0], (Object[]) events[i][1]);
+            assertTrue(binaryEncoder.encode(event, binary));
+            assertTrue(textEncoder.encode(event, text));
+        }
+
+        //换一个时区解码，时间仍按写入时的时区显示
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        StringBuilder decoded = new StringBuilder();
+        new BinaryLogDecoder().decode(new ByteArrayInputStream(binary.array(), 0, binary.position()), decoded);
+
+        String expected = new String(text.array(), 0, text.position(), Charset.forName("UTF-8"));
+        assertEquals(expected, decoded.toString());
+    }
+
+    @Test
+    public void decode_repeatedFormatUsesDictionary() throws Exception {
+        BinaryLogEncoder encoder = new BinaryLogEncoder();
+        ByteBuffer binary = ByteBuffer.allocate(64 * 1024);
+        encoder.begin(binary, System.currentTimeMillis());
+
+        LogEvent event = new LogEvent();
+        event.set(3, "Tag", null, 0, "value=%d", new Object[]{1});
+        encoder.encode(event, binary);
+        int first = binary.position();
+        event.set(3, "Tag", null, 0, "value=%d", new Object[]{2});
+        encoder.encode(event, binary);
+        int second = binary.position() - first;
+        assertTrue("second record should only reference the dictionary", second < first / 2);
+
+        StringBuilder decoded = new StringBuilder();
+        new BinaryLogDecoder().decode(new ByteArrayInputStream(binary.array(), 0, binary.position()), decoded);
+        String[] lines = decoded.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].endsWith("D/Tag: value=1"));
+        assertTrue(lines[1].endsWith("D/Tag: value=2"));
+    }
+}
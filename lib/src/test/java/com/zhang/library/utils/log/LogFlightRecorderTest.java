@@ -0,0 +1,116 @@
+package com.zhang.library.utils.log;
+
+import android.util.Log;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link LogFlightRecorder}的记录顺序、覆盖、清空和导出
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class LogFlightRecorderTest {
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void record_overwritesOldest() throws IOException {
+        //向上取整为4
+        LogFlightRecorder recorder = new LogFlightRecorder(3);
+        assertEquals(0, recorder.size());
+        assertEquals(new ArrayList<String>(), dump(recorder));
+
+        record(recorder, 0, 3);
+        assertEquals(3, recorder.size());
+        assertEquals(Arrays.asList("m0", "m1", "m2"), dump(recorder));
+
+        record(recorder, 3, 6);
+        assertEquals(4, recorder.size());
+        assertEquals(Arrays.asList("m2", "m3", "m4", "m5"), dump(recorder));
+    }
+
+    @Test
+    public void clear_onlyDumpsLaterRecords() throws IOException {
+        LogFlightRecorder recorder = new LogFlightRecorder(4);
+        record(recorder, 0, 6);
+        recorder.clear();
+        assertEquals(0, recorder.size());
+        assertEquals(new ArrayList<String>(), dump(recorder));
+
+        record(recorder, 6, 8);
+        assertEquals(2, recorder.size());
+        assertEquals(Arrays.asList("m6", "m7"), dump(recorder));
+
+        record(recorder, 8, 13);
+        assertEquals(4, recorder.size());
+        assertEquals(Arrays.asList("m9", "m10", "m11", "m12"), dump(recorder));
+    }
+
+    @Test
+    public void dump_formatsLazily() throws IOException {
+        LogFlightRecorder recorder = new LogFlightRecorder(4);
+        recorder.record(Log.WARN, "Net", "load", 25, "code=%d", new Object[]{404});
+        StringWriter writer = new StringWriter();
+        recorder.dump(writer);
+        String text = writer.toString();
+        assertTrue(text, text.endsWith(" W/Net: [load:25] code=404\n"));
+    }
+
+    @Test
+    public void dumpCrash_headerMatchesRecords() throws IOException {
+        LogFlightRecorder recorder = new LogFlightRecorder(4);
+        File dir = mFolder.newFolder();
+        Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        try {
+            recorder.installCrashHandler(dir);
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+
+        record(recorder, 0, 6);
+        recorder.clear();
+        record(recorder, 6, 9);
+        File file = recorder.dumpCrash(Thread.currentThread(), new IllegalStateException("crash"));
+
+        String text = new String(Files.readAllBytes(file.toPath()), Charset.forName("UTF-8"));
+        assertTrue(text, text.contains("IllegalStateException: crash"));
+        String logs = text.substring(text.indexOf("----- last 3 logs -----\n") + "----- last 3 logs -----\n".length());
+        assertEquals(Arrays.asList("m6", "m7", "m8"), toMessages(logs));
+    }
+
+    private static void record(LogFlightRecorder recorder, int from, int to) {
+        for (int i = from; i < to; i++) {
+            recorder.record(Log.INFO, "Tag", null, -1, "m" + i, null);
+        }
+    }
+
+    private static List<String> dump(LogFlightRecorder recorder) throws IOException {
+        StringWriter writer = new StringWriter();
+        recorder.dump(writer);
+        return toMessages(writer.toString());
+    }
+
+    private static List<String> toMessages(String text) {
+        List<String> messages = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            if (line.length() > 0)
+                messages.add(line.substring(line.indexOf("I/Tag: ") + "I/Tag: ".length()));
+        }
+        return messages;
+    }
+}
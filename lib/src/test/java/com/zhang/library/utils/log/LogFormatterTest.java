@@ -0,0 +1,103 @@
+package com.zhang.library.utils.log;
+
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link LogFormatter}的结果和{@code String.format(Locale.US, format, args)}一致
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class LogFormatterTest {
+
+    private static final Formattable FORMATTABLE = new Formattable() {
+        @Override
+        public void formatTo(Formatter formatter, int flags, int width, int precision) {
+            formatter.format("formattable");
+        }
+
+        @Override
+        public String toString() {
+            return "toString";
+        }
+    };
+
+    @Test
+    public void format_sameAsStringFormat() {
+        assertFormat("plain %d %s %b %% end", 42, "text", true);
+        assertFormat("%d/%d/%d/%d", (byte) -1, (short) 2, -3, Long.MIN_VALUE);
+        assertFormat("%s %s %b %b %b", null, new StringBuilder("sb"), null, "x", Boolean.FALSE);
+        assertFormat("line%nnext", 1);
+        assertFormat("%s", FORMATTABLE);
+        assertFormat("%d", new java.math.BigInteger("123456789012345678901234567890"));
+        assertFormat("%5d|%-5s|%05.2f|%x|%,d", 7, "ab", 3.14159, 255, 1234567);
+        assertFormat("%2$s %1$s %<s", "a", "b");
+        assertFormat("%tY", new Date(0));
+        assertFormat("no args %s and more %d", "only", 1, "extra");
+    }
+
+    @Test
+    public void format_label() {
+        assertEquals("[run:12] value=1", LogFormatter.format("run", 12, "value=%d", new Object[]{1}));
+        assertEquals("[run:12] value=%d", LogFormatter.format("run", 12, "value=%d", null));
+        assertEquals("L value=%d", LogFormatter.format("L ", "value=%d", new Object[0]));
+        assertEquals(" ", LogFormatter.format(null, null, null));
+        assertEquals("[run:12]  ", LogFormatter.format("run", 12, "", null));
+
+        String message = "no args";
+        assertSame(message, LogFormatter.format(null, message, null));
+
+        StringBuilder out = new StringBuilder("prefix ");
+        LogFormatter.appendText(out, "run", 3, "%s=%.1f", new Object[]{"pi", 3.14159});
+        assertEquals("prefix [run:3] pi=3.1", out.toString());
+    }
+
+    @Test
+    public void format_sameExceptionAsStringFormat() {
+        assertThrowsLikeStringFormat("%d %d", 1);
+        assertThrowsLikeStringFormat("%d", "text");
+        assertThrowsLikeStringFormat("end %", 1);
+        assertThrowsLikeStringFormat("%q", 1);
+    }
+
+    @Test
+    public void format_nestedLogInToString() {
+        Object nested = new Object() {
+            @Override
+            public String toString() {
+                return LogFormatter.format("inner", 1, "%s-%d", new Object[]{"in", 2});
+            }
+        };
+        assertFormat("outer %s %d", nested, 3);
+    }
+
+    private static void assertFormat(String format, Object... args) {
+        assertEquals(String.format(Locale.US, format, args), LogFormatter.format(null, format, args));
+    }
+
+    private static void assertThrowsLikeStringFormat(String format, Object... args) {
+        Class<?> expected;
+        try {
+            String.format(Locale.US, format, args);
+            throw new AssertionError("String.format不会抛出异常: " + format);
+        } catch (IllegalFormatException e) {
+            expected = e.getClass();
+        }
+
+        try {
+            LogFormatter.format(null, format, args);
+            fail("没有抛出异常: " + format);
+        } catch (IllegalFormatException e) {
+            assertEquals(expected, e.getClass());
+        }
+    }
+}
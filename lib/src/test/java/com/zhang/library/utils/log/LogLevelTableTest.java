@@ -0,0 +1,184 @@
+package com.zhang.library.utils.log;
+
+import android.util.Log;
+
+import com.zhang.library.utils.LogUtils;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link LogLevelTable}的配置解析和{@link LogUtils}按标签的等级判断
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class LogLevelTableTest {
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        LogUtils.init(false, false);
+        LogUtils.setLevelTable(null);
+    }
+
+    @Test
+    public void parse_levels() throws IOException {
+        LogLevelTable table = parse("# 注释\n"
+                + "\n"
+                + "*=info\n"
+                + "  Http = D  \n"
+                + "Db=5\n"
+                + "Net=OFF\n"
+                + "Ui=none\n"
+                + "Crash=ASSERT\n");
+        assertEquals(Log.INFO, table.getDefaultLevel());
+        assertEquals(5, table.size());
+        assertEquals(Log.DEBUG, table.getLevel("Http"));
+        assertEquals(Log.WARN, table.getLevel("Db"));
+        assertEquals(LogLevelTable.OFF, table.getLevel("Net"));
+        assertEquals(LogLevelTable.OFF, table.getLevel("Ui"));
+        assertEquals(Log.ASSERT, table.getLevel("Crash"));
+        assertEquals(LogLevelTable.NOT_SET, table.getLevel("Other"));
+        assertEquals(LogLevelTable.NOT_SET, table.getLevel(null));
+        assertEquals(Log.DEBUG, table.getMinLevel());
+    }
+
+    @Test
+    public void parse_malformedLines() throws IOException {
+        LogLevelTable table = parse("Http\n"
+                + "=DEBUG\n"
+                + "  =DEBUG\n"
+                + "Db=\n"
+                + "Db=LOUD\n"
+                + "Db=0\n"
+                + "Db=-1\n"
+                + "Db=9\n"
+                + "*=\n"
+                + "*=NOT_SET\n"
+                + "Net=W\n"
+                + "Net=E\n");
+        //无法解析的行被忽略，重复的标签以后面的为准
+        assertEquals(Log.VERBOSE, table.getDefaultLevel());
+        assertEquals(1, table.size());
+        assertEquals(Log.ERROR, table.getLevel("Net"));
+        assertEquals(LogLevelTable.NOT_SET, table.getLevel("Db"));
+        assertEquals(LogLevelTable.NOT_SET, table.getLevel("Http"));
+        assertEquals(LogLevelTable.NOT_SET, table.getLevel(""));
+
+        assertEquals(LogLevelTable.NOT_SET, LogLevelTable.parseLevel(null));
+        assertEquals(LogLevelTable.NOT_SET, LogLevelTable.parseLevel("NOT_SET"));
+        assertEquals(LogLevelTable.OFF, LogLevelTable.parseLevel("s"));
+        assertEquals(LogLevelTable.OFF, LogLevelTable.parseLevel(String.valueOf(LogLevelTable.OFF)));
+    }
+
+    @Test
+    public void parse_manyTags() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            int level = Log.VERBOSE + i % 7;
+            builder.append("Tag").append(i).append('=').append(level).append('\n');
+            expected.put("Tag" + i, level);
+        }
+        LogLevelTable table = parse(builder.toString());
+        assertEquals(expected, table.toMap());
+        for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getKey(), (int) entry.getValue(), table.getLevel(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void with_notSetRemovesTag() {
+        LogLevelTable table = LogLevelTable.EMPTY.with("Http", Log.DEBUG).with("Db", LogLevelTable.OFF);
+        assertEquals(2, table.size());
+        assertEquals(Log.DEBUG, table.getMinLevel());
+
+        table = table.with("Http", LogLevelTable.NOT_SET);
+        assertEquals(1, table.size());
+        assertEquals(LogLevelTable.NOT_SET, table.getLevel("Http"));
+        assertEquals(LogLevelTable.OFF, table.getMinLevel());
+        assertEquals(Log.WARN, table.withDefaultLevel(Log.WARN).getDefaultLevel());
+        assertEquals(0, LogLevelTable.EMPTY.size());
+    }
+
+    @Test
+    public void isLoggable_tagOverridesDefault() throws IOException {
+        LogUtils.setLevelTable(parse("*=WARN\nHttp=VERBOSE\nDb=OFF\n"));
+
+        //标签的配置不受日志开关的影响，默认等级只在开启日志时生效
+        LogUtils.init(true);
+        assertTrue(LogUtils.isLoggable(Log.VERBOSE, "Http"));
+        assertFalse(LogUtils.isLoggable(Log.ASSERT, "Db"));
+        assertFalse(LogUtils.isLoggable(Log.INFO, "Other"));
+        assertTrue(LogUtils.isLoggable(Log.WARN, "Other"));
+
+        LogUtils.init(false);
+        assertTrue(LogUtils.isLoggable(Log.VERBOSE, "Http"));
+        assertFalse(LogUtils.isLoggable(Log.ASSERT, "Db"));
+        assertFalse(LogUtils.isLoggable(Log.ERROR, "Other"));
+
+        LogUtils.setLevel("Other", Log.ERROR);
+        assertTrue(LogUtils.isLoggable(Log.ERROR, "Other"));
+        LogUtils.setLevel("Other", LogLevelTable.NOT_SET);
+        assertFalse(LogUtils.isLoggable(Log.ERROR, "Other"));
+    }
+
+    @Test
+    public void loadLevelConfig_reloadWhenModified() throws IOException {
+        File file = mFolder.newFile("log_level.conf");
+        write(file, "Http=DEBUG\n");
+        assertTrue(LogUtils.loadLevelConfig(file));
+        assertEquals(Log.DEBUG, LogUtils.getLevelTable().getLevel("Http"));
+
+        //没有修改时不重新加载
+        LogLevelTable table = LogUtils.getLevelTable();
+        assertFalse(LogUtils.reloadLevelConfig());
+        assertSame(table, LogUtils.getLevelTable());
+
+        write(file, "Http=OFF\n*=ERROR\n");
+        assertTrue(file.setLastModified(file.lastModified() + 2000));
+        assertTrue(LogUtils.reloadLevelConfig());
+        assertEquals(LogLevelTable.OFF, LogUtils.getLevelTable().getLevel("Http"));
+        assertEquals(Log.ERROR, LogUtils.getLevelTable().getDefaultLevel());
+
+        //文件被删除时保持原来的配置
+        table = LogUtils.getLevelTable();
+        assertTrue(file.delete());
+        assertFalse(LogUtils.reloadLevelConfig());
+        assertSame(table, LogUtils.getLevelTable());
+
+        assertFalse(LogUtils.loadLevelConfig(null));
+        assertFalse(LogUtils.loadLevelConfig(new File(mFolder.getRoot(), "missing.conf")));
+        assertSame(table, LogUtils.getLevelTable());
+    }
+
+    private static LogLevelTable parse(String text) throws IOException {
+        return LogLevelTable.parse(new StringReader(text));
+    }
+
+    private static void write(File file, String text) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(text.getBytes(Charset.forName("UTF-8")));
+        } finally {
+            out.close();
+        }
+    }
+}
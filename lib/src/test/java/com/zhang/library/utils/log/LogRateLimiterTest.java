@@ -0,0 +1,69 @@
+package com.zhang.library.utils.log;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link LogRateLimiter}的限流和汇总
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class LogRateLimiterTest {
+
+    private static final int DEBUG = 3;
+    private static final int ERROR = 6;
+
+    private final List<String> mSummaries = new ArrayList<>();
+    private final LogRateLimiter.SuppressedCallback mCallback = new LogRateLimiter.SuppressedCallback() {
+        @Override
+        public void onSuppressed(int priority, String tag, Object site, int count) {
+            mSummaries.add(priority + "/" + tag + "/" + site + ":" + count);
+        }
+    };
+
+    @Test
+    public void acquire_prioritiesUseSeparateBuckets() {
+        LogRateLimiter limiter = new LogRateLimiter(0.001, 2);
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(DEBUG, "Tag", "Tag", mCallback);
+        }
+        assertFalse(limiter.acquire(DEBUG, "Tag", "Tag", mCallback));
+        assertTrue(limiter.acquire(ERROR, "Tag", "Tag", mCallback));
+    }
+
+    @Test
+    public void acquire_reportsQuietSiteFromAnotherSite() throws InterruptedException {
+        LogRateLimiter limiter = new LogRateLimiter(0.001, 1, 1, 20);
+        assertTrue(limiter.acquire(DEBUG, "Tag", "burst", mCallback));
+        for (int i = 0; i < 5; i++) {
+            assertFalse(limiter.acquire(DEBUG, "Tag", "burst", mCallback));
+        }
+        assertTrue(mSummaries.isEmpty());
+
+        Thread.sleep(50);
+        //"burst"之后不再打印，汇总由其他位置的申请带出
+        assertTrue(limiter.acquire(DEBUG, "Other", "other", mCallback));
+        assertEquals(1, mSummaries.size());
+        assertEquals(DEBUG + "/Tag/burst:5", mSummaries.get(0));
+    }
+
+    @Test
+    public void reset_reportsPendingCounts() {
+        LogRateLimiter limiter = new LogRateLimiter(0.001, 1, 1, 60 * 1000);
+        limiter.acquire(ERROR, "Tag", "site", mCallback);
+        limiter.acquire(ERROR, "Tag", "site", mCallback);
+        limiter.acquire(ERROR, "Tag", "site", mCallback);
+        assertTrue(mSummaries.isEmpty());
+
+        limiter.reset(mCallback);
+        assertEquals(1, mSummaries.size());
+        assertEquals(ERROR + "/Tag/site:2", mSummaries.get(0));
+        assertTrue(limiter.acquire(ERROR, "Tag", "site", mCallback));
+    }
+}
@@ -0,0 +1,192 @@
+package com.zhang.library.utils.log;
+
+import android.util.Log;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link MappedFileSink}的文件切换、续写、删除旧文件和关闭时截断
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class MappedFileSinkTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int SEGMENT_SIZE = 256;
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void write_rotatesAndDeletesOldSegments() throws IOException {
+        File dir = mFolder.newFolder();
+        MappedFileSink sink = new MappedFileSink(dir, "app", SEGMENT_SIZE, 3, HOUR);
+        String large = new String(new char[SEGMENT_SIZE]).replace('\0', 'x');
+        for (int i = 0; i < 40; i++) {
+            write(sink, message(i));
+            //超过文件大小的日志被丢弃，连续多条时不会一直切换文件
+            if (i == 30) {
+                write(sink, large);
+                write(sink, large);
+                write(sink, large);
+            }
+        }
+        sink.close();
+
+        List<File> files = sink.listSegments();
+        assertEquals(3, files.size());
+        List<String> lines = new ArrayList<>();
+        for (File file : files) {
+            //关闭时截掉未使用的部分
+            byte[] bytes = read(file);
+            assertTrue(file.getName(), bytes.length > 0 && bytes.length <= SEGMENT_SIZE);
+            assertEquals(file.getName(), '\n', bytes[bytes.length - 1]);
+            for (byte b : bytes) {
+                assertNotEquals(file.getName(), 0, b);
+            }
+            lines.addAll(Arrays.asList(new String(bytes, UTF_8).split("\n")));
+        }
+
+        //保留的是最新的连续日志
+        int first = 40 - lines.size();
+        assertTrue(first > 0);
+        for (int i = 0; i < lines.size(); i++) {
+            assertTrue(lines.get(i), lines.get(i).endsWith("I/Tag: " + message(first + i)));
+        }
+    }
+
+    @Test
+    public void write_rotatesWhenExpired() throws IOException, InterruptedException {
+        File dir = mFolder.newFolder();
+        MappedFileSink sink = new MappedFileSink(dir, "app", SEGMENT_SIZE, 3, 100);
+        write(sink, message(0));
+        File file = sink.getCurrentFile();
+        Thread.sleep(150);
+        write(sink, message(1));
+        assertNotEquals(file, sink.getCurrentFile());
+        sink.close();
+
+        List<File> files = sink.listSegments();
+        assertEquals(2, files.size());
+        assertEquals(file, files.get(0));
+        assertTrue(readText(files.get(0)).endsWith(message(0) + "\n"));
+        assertTrue(readText(files.get(1)).endsWith(message(1) + "\n"));
+    }
+
+    @Test
+    public void write_resumesAfterLastNonZeroByte() throws IOException {
+        File dir = mFolder.newFolder();
+        //进程被杀死时文件没有截断，末尾为0
+        File file = new File(dir, "app-" + System.currentTimeMillis() + ".log");
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(SEGMENT_SIZE);
+            raf.write("a\nb\n".getBytes(UTF_8));
+        } finally {
+            raf.close();
+        }
+
+        MappedFileSink sink = new MappedFileSink(dir, "app", SEGMENT_SIZE, 3, HOUR);
+        write(sink, message(0));
+        assertEquals(file, sink.getCurrentFile());
+        sink.close();
+
+        String text = readText(file);
+        assertTrue(text, text.startsWith("a\nb\n"));
+        assertTrue(text, text.endsWith("I/Tag: " + message(0) + "\n"));
+        assertEquals(1, sink.listSegments().size());
+
+        //关闭后截断的文件也可以续写
+        sink = new MappedFileSink(dir, "app", SEGMENT_SIZE, 3, HOUR);
+        write(sink, message(1));
+        assertEquals(file, sink.getCurrentFile());
+        sink.close();
+        String[] lines = readText(file).split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("a", lines[0]);
+        assertEquals("b", lines[1]);
+        assertTrue(lines[2], lines[2].endsWith("I/Tag: " + message(0)));
+        assertTrue(lines[3], lines[3].endsWith("I/Tag: " + message(1)));
+    }
+
+    @Test
+    public void write_skipsFullOrExpiredSegment() throws IOException {
+        File dir = mFolder.newFolder();
+        byte[] full = new byte[SEGMENT_SIZE];
+        Arrays.fill(full, (byte) 'x');
+        File fullFile = new File(dir, "app-" + System.currentTimeMillis() + ".log");
+        writeBytes(fullFile, full);
+
+        MappedFileSink sink = new MappedFileSink(dir, "app", SEGMENT_SIZE, 3, HOUR);
+        write(sink, message(0));
+        assertNotEquals(fullFile, sink.getCurrentFile());
+        sink.close();
+        assertEquals(SEGMENT_SIZE, fullFile.length());
+
+        dir = mFolder.newFolder();
+        File expiredFile = new File(dir, "app-" + (System.currentTimeMillis() - 2 * HOUR) + ".log");
+        writeBytes(expiredFile, "a\n".getBytes(UTF_8));
+        //其他文件不受影响
+        File other = new File(dir, "other.log");
+        writeBytes(other, "b\n".getBytes(UTF_8));
+
+        sink = new MappedFileSink(dir, "app", SEGMENT_SIZE, 1, HOUR);
+        write(sink, message(0));
+        assertNotEquals(expiredFile, sink.getCurrentFile());
+        sink.close();
+        assertFalse(expiredFile.exists());
+        assertTrue(other.exists());
+        assertEquals(1, sink.listSegments().size());
+    }
+
+    private static String message(int index) {
+        return String.format("message-%03d", index);
+    }
+
+    private static void write(MappedFileSink sink, String message) {
+        LogEvent event = new LogEvent();
+        event.set(Log.INFO, "Tag", null, -1, message, null);
+        sink.write(event);
+    }
+
+    private static String readText(File file) throws IOException {
+        return new String(read(file), UTF_8);
+    }
+
+    private static byte[] read(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            byte[] bytes = new byte[(int) raf.length()];
+            raf.readFully(bytes);
+            return bytes;
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static void writeBytes(File file, byte[] bytes) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(bytes);
+        } finally {
+            out.close();
+        }
+    }
+}
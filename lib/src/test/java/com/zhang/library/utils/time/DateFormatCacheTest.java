@@ -0,0 +1,60 @@
+package com.zhang.library.utils.time;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * {@link DateFormatCache}的复用和默认时区
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class DateFormatCacheTest {
+
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final long TIME = 1578164645000L;
+
+    private TimeZone mDefaultZone;
+
+    @Before
+    public void setUp() {
+        mDefaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"));
+        DateFormatCache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(mDefaultZone);
+        DateFormatCache.clear();
+    }
+
+    @Test
+    public void format_reuseSameFormat() throws ParseException {
+        assertEquals("2020-01-05 03:04:05", DateFormatCache.format(PATTERN, Locale.US, null, TIME));
+        assertEquals("2020-01-04 19:04:05", DateFormatCache.format(PATTERN, Locale.US, TimeZone.getTimeZone("UTC"), TIME));
+        assertEquals(TIME, DateFormatCache.parse(PATTERN, Locale.US, null, "2020-01-05 03:04:05").getTime());
+        assertSame(DateFormatCache.get(PATTERN, Locale.US, null), DateFormatCache.get(PATTERN, Locale.US, null));
+    }
+
+    @Test
+    public void format_followsDefaultTimeZone() throws InterruptedException {
+        assertEquals("2020-01-05 03:04:05", DateFormatCache.format(PATTERN, Locale.US, null, TIME));
+
+        //不调用clear()，最晚1秒后使用新的默认时区
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        Thread.sleep(1100);
+        assertEquals("2020-01-04 19:04:05", DateFormatCache.format(PATTERN, Locale.US, null, TIME));
+
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        DateFormatCache.clear();
+        assertEquals("2020-01-04 14:04:05", DateFormatCache.format(PATTERN, Locale.US, null, TIME));
+    }
+}
@@ -0,0 +1,156 @@
+package com.zhang.library.utils.time;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link FixedDateFormat}的格式化和解析结果和{@link GregorianCalendar}、{@link SimpleDateFormat}一致，包括夏令时切换的日期
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class FixedDateFormatTest {
+
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+    private static final String[] PATTERNS = {"yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd", "HH:mm:ss", "yyyy年MM月dd日", "MM/dd", "yyyyMMddHHmmssSSS"};
+
+    @Test
+    public void format_sameAsCalendar() {
+        Random random = new Random(1);
+        for (String id : ZoneOffsetTableTest.ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(id);
+            long[] transitions = ZoneOffsetTableTest.getTransitions(timeZone);
+            FixedDateFormat format = new FixedDateFormat(PATTERN, timeZone);
+            Calendar calendar = new GregorianCalendar(timeZone);
+            StringBuilder builder = new StringBuilder();
+            char[] chars = new char[format.length() + 2];
+            for (int i = 0; i < 10000; i++) {
+                long time = i % 2 == 0 ? ZoneOffsetTableTest.randomTime(random) : ZoneOffsetTableTest.randomTransitionTime(random, transitions);
+                calendar.setTimeInMillis(time);
+                String expected = String.format(Locale.US, "%04d-%02d-%02d %02d:%02d:%02d.%03d",
+                        calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1, calendar.get(Calendar.DAY_OF_MONTH),
+                        calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE), calendar.get(Calendar.SECOND),
+                        calendar.get(Calendar.MILLISECOND));
+
+                String message = id + " " + time;
+                assertEquals(message, expected, format.format(time));
+
+                builder.setLength(0);
+                builder.append('>');
+                format.format(time, builder);
+                assertEquals(message, ">" + expected, builder.toString());
+
+                assertEquals(message, chars.length - 1, format.format(time, chars, 1));
+                assertEquals(message, expected, new String(chars, 1, format.length()));
+            }
+        }
+    }
+
+    @Test
+    public void parse_sameAsCalendar() {
+        Random random = new Random(2);
+        for (String id : ZoneOffsetTableTest.ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(id);
+            long[] transitions = ZoneOffsetTableTest.getTransitions(timeZone);
+            FixedDateFormat format = new FixedDateFormat(PATTERN, timeZone);
+            Calendar calendar = new GregorianCalendar(timeZone);
+            Calendar local = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+            for (int i = 0; i < 10000; i++) {
+                //按UTC生成本地时间，夏令时切换附近会有不存在和重复的时间
+                long time = i % 2 == 0 ? ZoneOffsetTableTest.randomTime(random) : ZoneOffsetTableTest.randomTransitionTime(random, transitions);
+                local.setTimeInMillis(time + timeZone.getOffset(time) + (random.nextInt(9) - 4) * 15 * 60 * 1000L);
+                int year = local.get(Calendar.YEAR);
+                int month = local.get(Calendar.MONTH);
+                int day = local.get(Calendar.DAY_OF_MONTH);
+                int hour = local.get(Calendar.HOUR_OF_DAY);
+                int minute = local.get(Calendar.MINUTE);
+                int second = local.get(Calendar.SECOND);
+                int millis = local.get(Calendar.MILLISECOND);
+                String text = String.format(Locale.US, "%04d-%02d-%02d %02d:%02d:%02d.%03d", year, month + 1, day, hour, minute, second, millis);
+
+                calendar.clear();
+                calendar.set(year, month, day, hour, minute, second);
+                calendar.set(Calendar.MILLISECOND, millis);
+                assertEquals(id + " " + text, calendar.getTimeInMillis(), format.parse(text));
+                assertEquals(id + " " + text, calendar.getTimeInMillis(), format.parse("[" + text + "]", 1));
+            }
+        }
+    }
+
+    @Test
+    public void patterns_sameAsSimpleDateFormat() throws ParseException {
+        Random random = new Random(3);
+        for (String id : new String[]{"Asia/Shanghai", "America/New_York", "Australia/Lord_Howe"}) {
+            TimeZone timeZone = TimeZone.getTimeZone(id);
+            for (String pattern : PATTERNS) {
+                FixedDateFormat format = new FixedDateFormat(pattern, timeZone);
+                SimpleDateFormat expected = new SimpleDateFormat(pattern, Locale.US);
+                expected.setTimeZone(timeZone);
+                assertEquals(pattern, format.length(), expected.format(new Date(0)).length());
+                for (int i = 0; i < 2000; i++) {
+                    long time = ZoneOffsetTableTest.randomTime(random);
+                    String text = expected.format(new Date(time));
+                    assertEquals(id + " " + pattern + " " + time, text, format.format(time));
+                    //没有年份时按1970年解析，2月29日不存在，SimpleDateFormat顺延到3月1日
+                    if (text.equals("02/29"))
+                        assertEquals(FixedDateFormat.INVALID, format.parse(text));
+                    else
+                        assertEquals(id + " " + pattern + " " + text, expected.parse(text).getTime(), format.parse(text));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void outOfRange() {
+        TimeZone timeZone = TimeZone.getTimeZone("Asia/Shanghai");
+        FixedDateFormat format = new FixedDateFormat("yyyy-MM-dd HH:mm:ss", timeZone);
+        SimpleDateFormat expected = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.US);
+        expected.setTimeZone(timeZone);
+
+        //格里高利历之前和超过9999年的时间交给SimpleDateFormat
+        long[] times = {-12219292800001L, -30000000000000L, 253402300800000L};
+        for (long time : times) {
+            assertEquals(expected.format(new Date(time)), format.format(time));
+            assertEquals(-1, format.format(time, new char[format.length()], 0));
+        }
+        assertEquals(FixedDateFormat.INVALID, format.parse("1582-10-14 00:00:00"));
+    }
+
+    @Test
+    public void parse_invalid() {
+        FixedDateFormat format = new FixedDateFormat("yyyy-MM-dd HH:mm:ss", TimeZone.getTimeZone("UTC"));
+        String[] texts = {"", "2020-01-05 03:04:0", "2020-01-05 03:04:055", "2020-01-05T03:04:05", "2020-1-05 03:04:05",
+                "2020-13-05 03:04:05", "2020-02-30 03:04:05", "2019-02-29 03:04:05", "2020-01-05 24:00:00",
+                "2020-01-05 03:60:00", "2020-01-05 03:04:60", "2020-01-05 03:04:-5", "２０２０-01-05 03:04:05"};
+        for (String text : texts) {
+            assertEquals(text, FixedDateFormat.INVALID, format.parse(text));
+        }
+        assertEquals(FixedDateFormat.INVALID, format.parse("2020-01-05 03:04:05", 1));
+        assertEquals(FixedDateFormat.INVALID, format.parse("2020-01-05 03:04:05", -1));
+        assertEquals(1582859045000L, format.parse("2020-02-28 03:04:05"));
+        assertEquals(1582945445000L, format.parse("2020-02-29 03:04:05"));
+    }
+
+    @Test
+    public void isSupported() {
+        assertTrue(FixedDateFormat.isSupported("yyyy-MM-dd HH:mm:ss"));
+        assertTrue(FixedDateFormat.isSupported("MM月dd日"));
+        assertFalse(FixedDateFormat.isSupported(null));
+        assertFalse(FixedDateFormat.isSupported("yyyy-M-d"));
+        assertFalse(FixedDateFormat.isSupported("yy-MM-dd"));
+        assertFalse(FixedDateFormat.isSupported("'T'HH"));
+        assertFalse(FixedDateFormat.isSupported("hh:mm a"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.zhang.library.utils.time;
+
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link RelativeTimeFormatter}的内容和下次改变的时间
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class RelativeTimeFormatterTest {
+
+    private static final long MINUTE = 60 * 1000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+    private static final long NOW = 1578164645123L;
+
+    private final TimeZone mTimeZone = TimeZone.getTimeZone("America/New_York");
+    private final RelativeTimeFormatter mFormatter = new RelativeTimeFormatter(Locale.US, mTimeZone);
+
+    @Test
+    public void format_labels() {
+        assertLabel(RelativeTimeFormatter.JUST_NOW, 0);
+        assertLabel(RelativeTimeFormatter.JUST_NOW, MINUTE - 1);
+        assertLabel("1分前", MINUTE);
+        assertLabel("59分前", HOUR - 1);
+        assertLabel("1小时前", HOUR);
+        assertLabel("23小时前", DAY - 1);
+        assertLabel("1天前", DAY);
+        assertLabel("6天前", 7 * DAY - 1);
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        dateFormat.setTimeZone(mTimeZone);
+        long time = NOW - 7 * DAY;
+        assertEquals(dateFormat.format(new Date(time)), mFormatter.format(time, NOW));
+        time = NOW + 400 * DAY;
+        assertEquals(dateFormat.format(new Date(time)), mFormatter.format(time, NOW));
+    }
+
+    @Test
+    public void format_sameInstance() {
+        assertSame(mFormatter.format(NOW - 5 * MINUTE, NOW), mFormatter.format(NOW - 5 * MINUTE - 1, NOW));
+        assertSame(mFormatter.format(NOW - 30 * DAY, NOW), mFormatter.format(NOW - 30 * DAY, NOW + HOUR));
+    }
+
+    @Test
+    public void getNextChangeTime_boundaries() {
+        Random random = new Random(1);
+        long[] ranges = {2 * MINUTE, 2 * HOUR, 2 * DAY, 10 * DAY};
+        for (int i = 0; i < 100000; i++) {
+            long range = ranges[i % ranges.length];
+            long time = NOW + (long) ((random.nextDouble() * 2 - 1) * range);
+            long now = i % 5 == 0 ? time + (random.nextInt(5) - 2) * MINUTE : NOW;
+            String label = mFormatter.format(time, now);
+            long next = mFormatter.getNextChangeTime(time, now);
+
+            String message = time + " " + now + " " + next;
+            if (next == Long.MAX_VALUE) {
+                assertEquals(message, label, mFormatter.format(time, now + 1000 * DAY));
+                continue;
+            }
+
+            //next之前一直不变，到next时改变
+            assertTrue(message, next > now);
+            assertEquals(message, label, mFormatter.format(time, next - 1));
+            assertEquals(message, label, mFormatter.format(time, now + (long) (random.nextDouble() * (next - now))));
+            assertNotEquals(message, label, mFormatter.format(time, next));
+        }
+    }
+
+    @Test
+    public void getNextChangeTime_examples() {
+        assertEquals(NOW + MINUTE, mFormatter.getNextChangeTime(NOW, NOW));
+        assertEquals(NOW + 2 * MINUTE, mFormatter.getNextChangeTime(NOW, NOW + MINUTE));
+        assertEquals(NOW + 2 * HOUR, mFormatter.getNextChangeTime(NOW, NOW + HOUR + 5 * MINUTE));
+        assertEquals(NOW + 7 * DAY, mFormatter.getNextChangeTime(NOW, NOW + 6 * DAY));
+        assertEquals(Long.MAX_VALUE, mFormatter.getNextChangeTime(NOW, NOW + 7 * DAY));
+
+        //还没到的时间，"1分前"在差值小于1分钟时变为"刚刚"
+        assertEquals(NOW + 1, mFormatter.getNextChangeTime(NOW + MINUTE, NOW));
+        assertEquals(NOW + 6, mFormatter.getNextChangeTime(NOW + 2 * MINUTE + 5, NOW));
+        assertEquals(NOW + 20 * DAY - 7 * DAY + 1, mFormatter.getNextChangeTime(NOW + 20 * DAY, NOW));
+    }
+
+    @Test
+    public void getDefault_followsDefaultLocaleAndTimeZone() throws InterruptedException {
+        TimeZone defaultZone = TimeZone.getDefault();
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"));
+            RelativeTimeFormatter.clearDefault();
+            RelativeTimeFormatter formatter = RelativeTimeFormatter.getDefault();
+            assertSame(formatter, RelativeTimeFormatter.getDefault());
+            //1970-01-08 02:00 +08:00
+            long time = 7 * DAY - 6 * HOUR;
+            assertEquals("1970-01-08", formatter.format(time, time + 30 * DAY));
+
+            //不调用clearDefault()，最晚1秒后使用新的默认时区
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            Thread.sleep(1100);
+            formatter = RelativeTimeFormatter.getDefault();
+            assertEquals("1970-01-07", formatter.format(time, time + 30 * DAY));
+
+            Locale.setDefault(Locale.GERMANY);
+            assertNotSame(formatter, RelativeTimeFormatter.getDefault());
+        } finally {
+            TimeZone.setDefault(defaultZone);
+            Locale.setDefault(defaultLocale);
+            RelativeTimeFormatter.clearDefault();
+        }
+    }
+
+    private void assertLabel(String expected, long diff) {
+        assertEquals(expected, mFormatter.format(NOW - diff, NOW));
+        assertEquals(expected, mFormatter.format(NOW + diff, NOW));
+    }
+}
@@ -0,0 +1,170 @@
+package com.zhang.library.utils.time;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * {@link ZoneOffsetTable}的计算结果和{@link GregorianCalendar}一致，包括夏令时切换的日期
+ *
+ * @author ZhangXiaoMing 2026-10-18 23:59 周日
+ */
+public class ZoneOffsetTableTest {
+
+    /** 有夏令时、半小时时差、跳过整天或者在0点切换的时区 */
+    static final String[] ZONES = {"UTC", "Asia/Shanghai", "America/New_York", "Europe/London", "Australia/Lord_Howe",
+            "Pacific/Apia", "America/Sao_Paulo", "Asia/Beirut", "America/Havana", "Asia/Kolkata"};
+
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final long DAY = 24 * HOUR;
+    /** 1900-01-01到2100-01-01 */
+    private static final long MIN_TIME = -2208988800000L;
+    private static final long MAX_TIME = 4102444800000L;
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    @Test
+    public void getEpochDay_sameAsCalendar() {
+        Random random = new Random(1);
+        for (String id : ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(id);
+            long[] transitions = getTransitions(timeZone);
+            ZoneOffsetTable table = new ZoneOffsetTable(timeZone);
+            Calendar calendar = new GregorianCalendar(timeZone);
+            for (int i = 0; i < 20000; i++) {
+                long time = i % 2 == 0 ? randomTime(random) : randomTransitionTime(random, transitions);
+                calendar.setTimeInMillis(time);
+
+                String message = id + " " + time;
+                assertEquals(message, timeZone.getOffset(time), table.getOffset(time));
+                assertEquals(message, epochDay(calendar), table.getEpochDay(time));
+            }
+        }
+    }
+
+    @Test
+    public void toUtc_sameAsCalendar() {
+        Random random = new Random(2);
+        for (String id : ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(id);
+            long[] transitions = getTransitions(timeZone);
+            ZoneOffsetTable table = new ZoneOffsetTable(timeZone);
+            Calendar local = new GregorianCalendar(UTC);
+            Calendar calendar = new GregorianCalendar(timeZone);
+            for (int i = 0; i < 20000; i++) {
+                //夏令时切换附近的本地时间，包括不存在和重复的时间
+                long time = i % 2 == 0 ? randomTime(random) : randomTransitionTime(random, transitions);
+                long localTime = time + timeZone.getOffset(time) + (random.nextInt(9) - 4) * 15 * 60 * 1000L;
+                local.setTimeInMillis(localTime);
+
+                calendar.clear();
+                calendar.set(local.get(Calendar.YEAR), local.get(Calendar.MONTH), local.get(Calendar.DAY_OF_MONTH),
+                        local.get(Calendar.HOUR_OF_DAY), local.get(Calendar.MINUTE), local.get(Calendar.SECOND));
+                calendar.set(Calendar.MILLISECOND, local.get(Calendar.MILLISECOND));
+                assertEquals(id + " " + localTime, calendar.getTimeInMillis(), table.toUtc(localTime));
+            }
+        }
+    }
+
+    @Test
+    public void getStartOfDay_sameAsCalendar() {
+        Random random = new Random(3);
+        for (String id : ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(id);
+            long[] transitions = getTransitions(timeZone);
+            ZoneOffsetTable table = new ZoneOffsetTable(timeZone);
+            Calendar calendar = new GregorianCalendar(timeZone);
+            for (int i = 0; i < 5000; i++) {
+                calendar.setTimeInMillis(i % 2 == 0 ? randomTime(random) : randomTransitionTime(random, transitions));
+                long epochDay = epochDay(calendar);
+                calendar.set(Calendar.HOUR_OF_DAY, 0);
+                calendar.set(Calendar.MINUTE, 0);
+                calendar.set(Calendar.SECOND, 0);
+                calendar.set(Calendar.MILLISECOND, 0);
+                assertEquals(id + " " + epochDay, calendar.getTimeInMillis(), table.getStartOfDay(epochDay));
+            }
+        }
+    }
+
+    @Test
+    public void getDefault_followsDefaultTimeZone() throws InterruptedException {
+        TimeZone defaultZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"));
+            ZoneOffsetTable.clearDefault();
+            ZoneOffsetTable table = ZoneOffsetTable.getDefault();
+            assertSame(table, ZoneOffsetTable.getDefault());
+            assertEquals(8 * HOUR, table.getOffset(0));
+
+            //不调用clearDefault()，最晚1秒后使用新的默认时区
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            Thread.sleep(1100);
+            table = ZoneOffsetTable.getDefault();
+            assertEquals(9 * HOUR, table.getOffset(0));
+
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            ZoneOffsetTable.clearDefault();
+            assertNotSame(table, ZoneOffsetTable.getDefault());
+            assertEquals(0, ZoneOffsetTable.getDefault().getOffset(0));
+        } finally {
+            TimeZone.setDefault(defaultZone);
+            ZoneOffsetTable.clearDefault();
+        }
+    }
+
+    static long randomTime(Random random) {
+        return MIN_TIME + (long) (random.nextDouble() * (MAX_TIME - MIN_TIME));
+    }
+
+    /** 时差改变前后一天内的随机时间，没有切换时返回随机时间 */
+    static long randomTransitionTime(Random random, long[] transitions) {
+        if (transitions.length == 0)
+            return randomTime(random);
+        return transitions[random.nextInt(transitions.length)] + (long) ((random.nextDouble() * 2 - 1) * DAY);
+    }
+
+    /** 1900年到2100年之间所有时差改变的时间 */
+    static long[] getTransitions(TimeZone timeZone) {
+        List<Long> transitions = new ArrayList<>();
+        for (long start = MIN_TIME; start < MAX_TIME; start += DAY) {
+            int offset = timeZone.getOffset(start);
+            if (timeZone.getOffset(start + DAY) == offset)
+                continue;
+
+            //二分到毫秒
+            long low = start;
+            long high = start + DAY;
+            while (high - low > 1) {
+                long middle = low + (high - low) / 2;
+                if (timeZone.getOffset(middle) == offset)
+                    low = middle;
+                else
+                    high = middle;
+            }
+            transitions.add(high);
+        }
+
+        long[] result = new long[transitions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = transitions.get(i);
+        }
+        return result;
+    }
+
+    /** 本地日期距1970-01-01的天数 */
+    static long epochDay(Calendar calendar) {
+        Calendar utc = new GregorianCalendar(UTC);
+        utc.clear();
+        utc.set(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH), calendar.get(Calendar.DAY_OF_MONTH));
+        return Math.floorDiv(utc.getTimeInMillis(), DAY);
+    }
+}